@@ -5,6 +5,7 @@ import com.razkart.cinehub.booking.service.BookingService;
 import com.razkart.cinehub.common.dto.ApiResponse;
 import com.razkart.cinehub.show.dto.SeatAvailabilityResponse;
 import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.waitingroom.service.WaitingRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,19 +26,36 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final WaitingRoomService waitingRoomService;
 
     @PostMapping
     @Operation(summary = "Initiate a new booking")
     public ResponseEntity<ApiResponse<BookingResponse>> initiateBooking(
             @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = WaitingRoomService.QUEUE_TOKEN_HEADER, required = false) String queueToken,
             @AuthenticationPrincipal User currentUser) {
 
+        waitingRoomService.checkAdmission(request.showId(), queueToken, currentUser);
         BookingResponse booking = bookingService.initiateBooking(request, currentUser);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success(booking, "Booking initiated. Complete payment within 10 minutes."));
     }
 
+    @PostMapping("/best-available")
+    @Operation(summary = "Book the best available adjacent seats")
+    public ResponseEntity<ApiResponse<BookingResponse>> initiateBestAvailableBooking(
+            @Valid @RequestBody BestAvailableRequest request,
+            @RequestHeader(value = WaitingRoomService.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @AuthenticationPrincipal User currentUser) {
+
+        waitingRoomService.checkAdmission(request.showId(), queueToken, currentUser);
+        BookingResponse booking = bookingService.initiateBestAvailableBooking(request, currentUser);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(booking, "Booking initiated. Complete payment within 10 minutes."));
+    }
+
     @PostMapping("/{bookingId}/confirm")
     @Operation(summary = "Confirm booking after payment")
     public ResponseEntity<ApiResponse<BookingResponse>> confirmBooking(
@@ -48,6 +66,16 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(booking, "Booking confirmed successfully"));
     }
 
+    @PostMapping("/{bookingId}/extend")
+    @Operation(summary = "Extend the seat hold of a pending booking")
+    public ResponseEntity<ApiResponse<BookingResponse>> extendBooking(
+            @PathVariable Long bookingId,
+            @AuthenticationPrincipal User currentUser) {
+
+        BookingResponse booking = bookingService.extendBooking(bookingId, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success(booking, "Seat hold extended"));
+    }
+
     @PostMapping("/{bookingId}/cancel")
     @Operation(summary = "Cancel a booking")
     public ResponseEntity<ApiResponse<BookingResponse>> cancelBooking(
@@ -81,7 +109,8 @@ public class BookingController {
     }
 
     @GetMapping
-    @Operation(summary = "Get user's bookings")
+    @Operation(summary = "Get user's bookings", deprecated = true,
+            description = "Loads the whole history; use /v1/bookings/history instead")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getUserBookings(
             @AuthenticationPrincipal User currentUser) {
 
@@ -89,11 +118,25 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(bookings));
     }
 
+    @GetMapping("/history")
+    @Operation(summary = "Get a page of the user's booking history, newest first")
+    public ResponseEntity<ApiResponse<BookingHistoryPage>> getBookingHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal User currentUser) {
+
+        BookingHistoryPage history = bookingService.getBookingHistory(currentUser.getId(), cursor, limit);
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
+
     @GetMapping("/shows/{showId}/seats")
     @Operation(summary = "Get available seats for a show")
     public ResponseEntity<ApiResponse<SeatAvailabilityResponse>> getAvailableSeats(
-            @PathVariable Long showId) {
+            @PathVariable Long showId,
+            @RequestHeader(value = WaitingRoomService.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @AuthenticationPrincipal User currentUser) {
 
+        waitingRoomService.checkAdmission(showId, queueToken, currentUser);
         SeatAvailabilityResponse availability = bookingService.getAvailableSeats(showId);
         return ResponseEntity.ok(ApiResponse.success(availability));
     }
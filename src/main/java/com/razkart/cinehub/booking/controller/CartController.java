@@ -0,0 +1,64 @@
+package com.razkart.cinehub.booking.controller;
+
+import com.razkart.cinehub.booking.controller.BookingController.CancellationRequest;
+import com.razkart.cinehub.booking.dto.BookingGroupResponse;
+import com.razkart.cinehub.booking.dto.CartRequest;
+import com.razkart.cinehub.booking.service.BookingGroupService;
+import com.razkart.cinehub.common.dto.ApiResponse;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.waitingroom.service.WaitingRoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/carts")
+@RequiredArgsConstructor
+@Tag(name = "Cart", description = "Multi-show checkout APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class CartController {
+
+    private final BookingGroupService bookingGroupService;
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping
+    @Operation(summary = "Hold seats for several shows under one expiry and one payment")
+    public ResponseEntity<ApiResponse<BookingGroupResponse>> checkout(
+            @Valid @RequestBody CartRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        request.items().forEach(item -> waitingRoomService.checkAdmission(item.showId(), item.queueToken(), currentUser));
+        BookingGroupResponse cart = bookingGroupService.checkoutCart(request, currentUser);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(cart, "Seats held. Complete payment within 10 minutes."));
+    }
+
+    @GetMapping("/{cartId}")
+    @Operation(summary = "Get cart details")
+    public ResponseEntity<ApiResponse<BookingGroupResponse>> getCart(
+            @PathVariable Long cartId,
+            @AuthenticationPrincipal User currentUser) {
+
+        BookingGroupResponse cart = bookingGroupService.getGroup(cartId, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success(cart));
+    }
+
+    @PostMapping("/{cartId}/cancel")
+    @Operation(summary = "Cancel every booking in a cart")
+    public ResponseEntity<ApiResponse<BookingGroupResponse>> cancelCart(
+            @PathVariable Long cartId,
+            @RequestBody(required = false) CancellationRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        String reason = request != null ? request.reason() : "User requested cancellation";
+        BookingGroupResponse cart = bookingGroupService.cancelGroup(cartId, currentUser.getId(), reason);
+        return ResponseEntity.ok(ApiResponse.success(cart, "Cart cancelled"));
+    }
+}
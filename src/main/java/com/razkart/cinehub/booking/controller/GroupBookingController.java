@@ -0,0 +1,63 @@
+package com.razkart.cinehub.booking.controller;
+
+import com.razkart.cinehub.booking.controller.BookingController.CancellationRequest;
+import com.razkart.cinehub.booking.dto.BookingGroupResponse;
+import com.razkart.cinehub.booking.dto.GroupBookingRequest;
+import com.razkart.cinehub.booking.service.BookingGroupService;
+import com.razkart.cinehub.common.dto.ApiResponse;
+import com.razkart.cinehub.user.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/group-bookings")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'THEATER_OWNER')")
+@Tag(name = "Group Booking", description = "Bulk booking APIs for corporate and school orders")
+@SecurityRequirement(name = "bearerAuth")
+public class GroupBookingController {
+
+    private final BookingGroupService bookingGroupService;
+
+    @PostMapping
+    @Operation(summary = "Hold seats across one or more shows as one group order")
+    public ResponseEntity<ApiResponse<BookingGroupResponse>> createGroup(
+            @Valid @RequestBody GroupBookingRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        BookingGroupResponse group = bookingGroupService.createGroup(request, currentUser);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(group, "Group booking initiated. Complete payment before it expires."));
+    }
+
+    @GetMapping("/{groupId}")
+    @Operation(summary = "Get group booking details")
+    public ResponseEntity<ApiResponse<BookingGroupResponse>> getGroup(
+            @PathVariable Long groupId,
+            @AuthenticationPrincipal User currentUser) {
+
+        BookingGroupResponse group = bookingGroupService.getGroup(groupId, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success(group));
+    }
+
+    @PostMapping("/{groupId}/cancel")
+    @Operation(summary = "Cancel every booking of a group")
+    public ResponseEntity<ApiResponse<BookingGroupResponse>> cancelGroup(
+            @PathVariable Long groupId,
+            @RequestBody(required = false) CancellationRequest request,
+            @AuthenticationPrincipal User currentUser) {
+
+        String reason = request != null ? request.reason() : "Group booking cancelled";
+        BookingGroupResponse group = bookingGroupService.cancelGroup(groupId, currentUser.getId(), reason);
+        return ResponseEntity.ok(ApiResponse.success(group, "Group booking cancelled"));
+    }
+}
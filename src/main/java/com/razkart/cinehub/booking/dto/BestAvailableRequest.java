@@ -0,0 +1,24 @@
+package com.razkart.cinehub.booking.dto;
+
+import com.razkart.cinehub.venue.entity.SeatType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request to book the best available block of adjacent seats; any seat type if none is given.
+ */
+public record BestAvailableRequest(
+        @NotNull(message = "Show ID is required")
+        Long showId,
+
+        @NotNull(message = "Seat count is required")
+        @Min(value = 1, message = "At least one seat must be requested")
+        @Max(value = 10, message = "Maximum 10 seats per booking")
+        Integer seatCount,
+
+        SeatType seatType,
+
+        // pricingVersion of the seat map the user saw; current prices if absent
+        String pricingVersion
+) {}
@@ -0,0 +1,41 @@
+package com.razkart.cinehub.booking.dto;
+
+import com.razkart.cinehub.booking.entity.BookingGroup;
+import com.razkart.cinehub.booking.entity.BookingGroupType;
+import com.razkart.cinehub.booking.entity.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BookingGroupResponse(
+        Long id,
+        String groupNumber,
+        BookingGroupType type,
+        String organizationName,
+        BookingStatus status,
+        int seatCount,
+        BigDecimal finalAmount,
+        LocalDateTime expiresAt,
+        LocalDateTime bookedAt,
+        List<BookingResponse> bookings
+) {
+    public static BookingGroupResponse from(BookingGroup group) {
+        return from(group, group.getBookings().stream().map(BookingResponse::from).toList());
+    }
+
+    public static BookingGroupResponse from(BookingGroup group, List<BookingResponse> bookings) {
+        return new BookingGroupResponse(
+                group.getId(),
+                group.getGroupNumber(),
+                group.getType(),
+                group.getOrganizationName(),
+                group.getStatus(),
+                group.getSeatCount(),
+                group.getFinalAmount(),
+                group.getExpiresAt(),
+                group.getBookedAt(),
+                bookings
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.razkart.cinehub.booking.dto;
+
+import java.util.List;
+
+/**
+ * A page of booking history, newest first. Pass {@code nextCursor} back to read the next page;
+ * it is null on the last page.
+ */
+public record BookingHistoryPage(
+        List<BookingSummary> bookings,
+        String nextCursor
+) {}
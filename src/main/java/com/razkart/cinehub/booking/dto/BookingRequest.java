@@ -12,5 +12,8 @@ public record BookingRequest(
 
         @NotEmpty(message = "At least one seat must be selected")
         @Size(max = 10, message = "Maximum 10 seats per booking")
-        List<Long> seatIds
+        List<Long> seatIds,
+
+        // pricingVersion of the seat map the seats were picked from; current prices if absent
+        String pricingVersion
 ) {}
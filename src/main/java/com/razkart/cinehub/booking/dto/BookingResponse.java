@@ -1,12 +1,16 @@
 package com.razkart.cinehub.booking.dto;
 
+import com.razkart.cinehub.booking.entity.BookedSeat;
 import com.razkart.cinehub.booking.entity.Booking;
 import com.razkart.cinehub.booking.entity.BookingStatus;
 import com.razkart.cinehub.booking.entity.PaymentStatus;
+import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.service.ScreenLayout;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 public record BookingResponse(
         Long id,
@@ -39,11 +43,22 @@ public record BookingResponse(
     ) {}
 
     public static BookingResponse from(Booking booking) {
+        return from(booking, bs -> bs.getSeat().getSeatType());
+    }
+
+    /**
+     * Build the response with seat types from the screen layout, without loading the seats.
+     */
+    public static BookingResponse from(Booking booking, ScreenLayout layout) {
+        return from(booking, bs -> layout.seatTypeAt(layout.ordinalOf(bs.getSeat().getId())));
+    }
+
+    private static BookingResponse from(Booking booking, Function<BookedSeat, SeatType> seatTypeOf) {
         List<SeatInfo> seats = booking.getBookedSeats().stream()
                 .map(bs -> new SeatInfo(
                         bs.getSeat().getId(),
                         bs.getSeatLabel(),
-                        bs.getSeat().getSeatType().name(),
+                        seatTypeOf.apply(bs).name(),
                         bs.getPrice()
                 ))
                 .toList();
@@ -0,0 +1,48 @@
+package com.razkart.cinehub.booking.dto;
+
+import com.razkart.cinehub.booking.entity.BookingStatus;
+import com.razkart.cinehub.booking.entity.PaymentStatus;
+import com.razkart.cinehub.booking.repository.BookingHistoryRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One entry of a user's booking history; full details come from {@code GET /v1/bookings/{id}}.
+ */
+public record BookingSummary(
+        Long id,
+        String bookingNumber,
+        Long showId,
+        String eventTitle,
+        String posterUrl,
+        String venueName,
+        String screenName,
+        String showDate,
+        String showTime,
+        BookingStatus status,
+        PaymentStatus paymentStatus,
+        List<String> seatLabels,
+        BigDecimal finalAmount,
+        LocalDateTime createdAt
+) {
+    public static BookingSummary from(BookingHistoryRow row, List<String> seatLabels) {
+        return new BookingSummary(
+                row.id(),
+                row.bookingNumber(),
+                row.showId(),
+                row.eventTitle(),
+                row.posterUrl(),
+                row.venueName(),
+                row.screenName(),
+                row.showDate().toString(),
+                row.showTime().toString(),
+                row.status(),
+                row.paymentStatus(),
+                seatLabels,
+                row.finalAmount(),
+                row.createdAt()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.razkart.cinehub.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CartRequest(
+        @NotEmpty(message = "The cart is empty")
+        @Valid
+        List<CartItem> items
+) {
+    public record CartItem(
+            @NotNull(message = "Show ID is required")
+            Long showId,
+
+            @NotEmpty(message = "At least one seat must be selected")
+            @Size(max = 10, message = "Maximum 10 seats per show")
+            List<Long> seatIds,
+
+            // pricingVersion of the seat map the seats were picked from; current prices if absent
+            String pricingVersion,
+
+            // Admission token of the show's waiting room, if it has one
+            String queueToken
+    ) {}
+}
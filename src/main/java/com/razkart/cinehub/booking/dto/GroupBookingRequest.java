@@ -0,0 +1,28 @@
+package com.razkart.cinehub.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record GroupBookingRequest(
+        @Size(max = 200, message = "Organization name must be at most 200 characters")
+        String organizationName,
+
+        @NotEmpty(message = "At least one show must be selected")
+        @Valid
+        List<ShowSeats> shows
+) {
+    public record ShowSeats(
+            @NotNull(message = "Show ID is required")
+            Long showId,
+
+            @NotEmpty(message = "At least one seat must be selected")
+            List<Long> seatIds,
+
+            // pricingVersion of the seat map the seats were picked from; current prices if absent
+            String pricingVersion
+    ) {}
+}
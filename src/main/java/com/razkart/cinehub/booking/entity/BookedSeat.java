@@ -20,7 +20,8 @@ import java.math.BigDecimal;
 public class BookedSeat {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booked_seats_seq")
+    @SequenceGenerator(name = "booked_seats_seq", sequenceName = "booked_seats_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
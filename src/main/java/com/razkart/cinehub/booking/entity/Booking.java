@@ -34,6 +34,11 @@ public class Booking extends BaseEntity {
     @JoinColumn(name = "show_id", nullable = false)
     private Show show;
 
+    // Set when the booking is one show of a group order
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id")
+    private BookingGroup group;
+
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal totalAmount;
 
@@ -115,12 +120,4 @@ public class Booking extends BaseEntity {
     public int getSeatCount() {
         return bookedSeats.size();
     }
-
-    @PrePersist
-    private void generateBookingNumber() {
-        if (this.bookingNumber == null) {
-            this.bookingNumber = "CH" + System.currentTimeMillis() +
-                    String.format("%04d", (int) (Math.random() * 10000));
-        }
-    }
 }
@@ -0,0 +1,77 @@
+package com.razkart.cinehub.booking.entity;
+
+import com.razkart.cinehub.common.entity.BaseEntity;
+import com.razkart.cinehub.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Several bookings (one per show) that are held, paid for and confirmed as one order: an admin or
+ * partner bulk order, or a customer's cart.
+ */
+@Entity
+@Table(name = "booking_groups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingGroup extends BaseEntity {
+
+    @Column(name = "group_number", nullable = false, unique = true, length = 20)
+    private String groupNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private BookingGroupType type = BookingGroupType.GROUP;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "organization_name", length = 200)
+    private String organizationName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private BookingStatus status = BookingStatus.PENDING;
+
+    @Column(name = "final_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal finalAmount;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "booked_at")
+    private LocalDateTime bookedAt;
+
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
+
+    @OneToMany(mappedBy = "group", cascade = CascadeType.ALL)
+    @Builder.Default
+    private List<Booking> bookings = new ArrayList<>();
+
+    @Version
+    private Integer version;
+
+    public void addBooking(Booking booking) {
+        bookings.add(booking);
+        booking.setGroup(this);
+    }
+
+    public boolean isExpired() {
+        return this.expiresAt != null && LocalDateTime.now().isAfter(this.expiresAt);
+    }
+
+    public int getSeatCount() {
+        return bookings.stream().mapToInt(Booking::getSeatCount).sum();
+    }
+}
@@ -0,0 +1,6 @@
+package com.razkart.cinehub.booking.entity;
+
+public enum BookingGroupType {
+    GROUP,  // Admin/partner bulk order
+    CART    // Customer's shows checked out together
+}
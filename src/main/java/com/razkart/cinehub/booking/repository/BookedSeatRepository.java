@@ -2,10 +2,12 @@ package com.razkart.cinehub.booking.repository;
 
 import com.razkart.cinehub.booking.entity.BookedSeat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -22,5 +24,28 @@ public interface BookedSeatRepository extends JpaRepository<BookedSeat, Long> {
            "AND bs.booking.status IN ('PENDING', 'CONFIRMED')")
     long countBookedSeatsForShow(@Param("showId") Long showId);
 
+    /**
+     * Seats of pending and confirmed bookings per show, as rows of [showId, BookingStatus, count].
+     */
+    @Query("SELECT bs.show.id, bs.booking.status, COUNT(bs) FROM BookedSeat bs WHERE bs.show.id IN :showIds " +
+           "AND bs.booking.status IN ('PENDING', 'CONFIRMED') GROUP BY bs.show.id, bs.booking.status")
+    List<Object[]> countSeatsByShowAndStatus(@Param("showIds") Collection<Long> showIds);
+
+    /**
+     * Seats of the given bookings as rows of [bookingId, seatId].
+     */
+    @Query("SELECT bs.booking.id, bs.seat.id FROM BookedSeat bs WHERE bs.booking.id IN :bookingIds")
+    List<Object[]> findSeatIdsByBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * Seat labels of the given bookings as rows of [bookingId, seatLabel].
+     */
+    @Query("SELECT bs.booking.id, bs.seatLabel FROM BookedSeat bs WHERE bs.booking.id IN :bookingIds ORDER BY bs.id")
+    List<Object[]> findSeatLabelsByBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Modifying
+    @Query("DELETE FROM BookedSeat bs WHERE bs.booking.id IN :bookingIds")
+    int deleteByBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
+
     boolean existsByShowIdAndSeatId(Long showId, Long seatId);
 }
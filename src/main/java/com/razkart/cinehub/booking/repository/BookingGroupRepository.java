@@ -0,0 +1,22 @@
+package com.razkart.cinehub.booking.repository;
+
+import com.razkart.cinehub.booking.entity.BookingGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BookingGroupRepository extends JpaRepository<BookingGroup, Long> {
+
+    Optional<BookingGroup> findByGroupNumber(String groupNumber);
+
+    @Modifying
+    @Query("UPDATE BookingGroup g SET g.status = 'EXPIRED', g.updatedAt = :now, g.version = g.version + 1 " +
+           "WHERE g.status = 'PENDING' AND g.expiresAt < :now")
+    int markExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,28 @@
+package com.razkart.cinehub.booking.repository;
+
+import com.razkart.cinehub.booking.entity.BookingStatus;
+import com.razkart.cinehub.booking.entity.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Flat projection of a booking for the history list, read without hydrating the booking graph.
+ */
+public record BookingHistoryRow(
+        Long id,
+        String bookingNumber,
+        Long showId,
+        String eventTitle,
+        String posterUrl,
+        String venueName,
+        String screenName,
+        LocalDate showDate,
+        LocalTime showTime,
+        BookingStatus status,
+        PaymentStatus paymentStatus,
+        BigDecimal finalAmount,
+        LocalDateTime createdAt
+) {}
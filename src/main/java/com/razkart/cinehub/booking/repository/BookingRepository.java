@@ -2,14 +2,15 @@ package com.razkart.cinehub.booking.repository;
 
 import com.razkart.cinehub.booking.entity.Booking;
 import com.razkart.cinehub.booking.entity.BookingStatus;
-import com.razkart.cinehub.show.entity.Show;
-import com.razkart.cinehub.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,21 +21,57 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByUserIdOrderByCreatedAtDesc(Long userId);
 
-    List<Booking> findByShowId(Long showId);
+    /**
+     * Next page of a user's bookings before the (createdAt, id) cursor, newest first.
+     * Walks idx_bookings_user_created, so the cost of a page does not grow with the history.
+     */
+    @Query("SELECT new com.razkart.cinehub.booking.repository.BookingHistoryRow(" +
+           "b.id, b.bookingNumber, s.id, e.title, e.posterUrl, v.name, sc.name, s.showDate, s.startTime, " +
+           "b.status, b.paymentStatus, b.finalAmount, b.createdAt) " +
+           "FROM Booking b JOIN b.show s JOIN s.event e JOIN s.screen sc JOIN sc.venue v " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :beforeCreatedAt OR (b.createdAt = :beforeCreatedAt AND b.id < :beforeId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingHistoryRow> findHistoryBefore(
+            @Param("userId") Long userId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
 
-    @Query("SELECT b FROM Booking b WHERE b.user = :user AND b.show = :show AND b.status IN :statuses")
-    List<Booking> findByUserAndShowAndStatusIn(
-            @Param("user") User user,
-            @Param("show") Show show,
-            @Param("statuses") List<BookingStatus> statuses);
+    List<Booking> findByShowId(Long showId);
 
-    default boolean existsByUserAndShowAndStatusIn(User user, Show show, List<BookingStatus> statuses) {
-        return !findByUserAndShowAndStatusIn(user, show, statuses).isEmpty();
-    }
+    /**
+     * Stops at the first matching row; served from idx_bookings_user_show_status.
+     */
+    boolean existsByUserIdAndShowIdAndStatusIn(Long userId, Long showId, Collection<BookingStatus> statuses);
 
     @Query("SELECT b FROM Booking b WHERE b.status = 'PENDING' AND b.expiresAt < :now")
     List<Booking> findExpiredBookings(@Param("now") LocalDateTime now);
 
+    /**
+     * Next page of expired pending bookings after the (expiresAt, id) cursor, oldest first, restricted
+     * to shows with {@code show_id mod partitions = partition}. Rows are locked and rows locked by
+     * another node are skipped, so several reapers can run at once.
+     */
+    @Query(value = "SELECT b.id AS id, b.show_id AS showId, b.user_id AS userId, b.expires_at AS expiresAt " +
+                   "FROM bookings b WHERE b.status = 'PENDING' AND b.expires_at < :now " +
+                   "AND (b.expires_at > :afterExpiresAt OR (b.expires_at = :afterExpiresAt AND b.id > :afterId)) " +
+                   "AND MOD(b.show_id, :partitions) = :partition " +
+                   "ORDER BY b.expires_at, b.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ExpiredBookingRow> lockExpiredBookingsAfter(
+            @Param("now") LocalDateTime now,
+            @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+            @Param("afterId") Long afterId,
+            @Param("partition") int partition,
+            @Param("partitions") int partitions,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = 'EXPIRED', b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id IN :bookingIds AND b.status = 'PENDING'")
+    int markExpired(@Param("bookingIds") Collection<Long> bookingIds, @Param("now") LocalDateTime now);
+
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND b.status = :status ORDER BY b.createdAt DESC")
     List<Booking> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") BookingStatus status);
 
@@ -0,0 +1,17 @@
+package com.razkart.cinehub.booking.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an expired pending booking, as read by the expiry reaper.
+ */
+public interface ExpiredBookingRow {
+
+    Long getId();
+
+    Long getShowId();
+
+    Long getUserId();
+
+    LocalDateTime getExpiresAt();
+}
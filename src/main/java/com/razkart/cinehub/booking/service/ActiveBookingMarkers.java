@@ -0,0 +1,80 @@
+package com.razkart.cinehub.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis markers for users holding a pending or confirmed booking of a show, so the one-booking-per-show
+ * guard usually rejects repeats with a single key lookup before any SQL runs.
+ * <p>
+ * A marker only ever short-cuts a rejection: when it is missing (evicted, disabled or Redis down) the
+ * database check still decides. Markers are set when a booking is held or confirmed, and are cleared
+ * when it is cancelled or expires, or lapse on their own TTL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveBookingMarkers {
+
+    private static final String MARKER_PREFIX = "cinehub:booking:active:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${cinehub.booking.active-marker.enabled:true}")
+    private boolean enabled;
+
+    public boolean isMarked(Long showId, Long userId) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(markerKey(showId, userId)));
+        } catch (DataAccessException e) {
+            log.debug("Active booking marker lookup failed, falling back to the database: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public void mark(Long showId, Long userId, Long bookingId, Duration ttl) {
+        if (!enabled || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(markerKey(showId, userId), bookingId.toString(), ttl);
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark active booking {}: {}", bookingId, e.getMessage());
+        }
+    }
+
+    public void clear(Long showId, Long userId) {
+        deleteMarkers(List.of(markerKey(showId, userId)));
+    }
+
+    public void clear(Collection<SeatHold> holds) {
+        deleteMarkers(holds.stream().map(hold -> markerKey(hold.showId(), hold.userId())).toList());
+    }
+
+    private void deleteMarkers(List<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        // A stale marker wrongly blocks the user from booking the show again until it lapses
+        try {
+            redisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.error("Failed to clear {} active booking markers: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    private String markerKey(Long showId, Long userId) {
+        return MARKER_PREFIX + showId + ":" + userId;
+    }
+}
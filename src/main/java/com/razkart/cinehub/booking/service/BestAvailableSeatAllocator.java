@@ -0,0 +1,58 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Picks the best block of side-by-side free seats in a screen.
+ * <p>
+ * Free seats are a bitset over layout ordinals; runs of set bits are cut at row ends and
+ * seat-number gaps, and every window of the requested size in a run is scored by the
+ * squared distance of its midpoint from the centre of the screen. One pass over the
+ * bitset, no per-seat allocation.
+ */
+@Component
+public class BestAvailableSeatAllocator {
+
+    /**
+     * Best {@code count} adjacent free seats of a type (any type if null), or an empty list if none.
+     */
+    public List<Long> allocate(ScreenLayout layout, Collection<Long> unavailableSeatIds, SeatType seatType, int count) {
+        BitSet free = layout.usableSeats(seatType);
+        for (Long seatId : unavailableSeatIds) {
+            int ordinal = layout.ordinalOf(seatId);
+            if (ordinal >= 0) {
+                free.clear(ordinal);
+            }
+        }
+
+        int bestStart = -1;
+        double bestScore = Double.MAX_VALUE;
+        for (int runStart = free.nextSetBit(0); runStart >= 0; ) {
+            int runEnd = Math.min(free.nextClearBit(runStart), layout.nextBlockStart(runStart));
+            for (int start = runStart; start + count <= runEnd; start++) {
+                int end = start + count - 1;
+                double dx = (layout.xPositionAt(start) + layout.xPositionAt(end)) / 2.0 - layout.centreX();
+                double dy = layout.yPositionAt(start) - layout.centreY();
+                double score = dx * dx + dy * dy;
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestStart = start;
+                }
+            }
+            runStart = free.nextSetBit(runEnd);
+        }
+
+        if (bestStart < 0) {
+            return List.of();
+        }
+        int start = bestStart;
+        return IntStream.range(start, start + count).mapToObj(layout::seatIdAt).toList();
+    }
+}
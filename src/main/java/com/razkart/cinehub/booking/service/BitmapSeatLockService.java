@@ -0,0 +1,261 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis seat locking backed by one bitmap and one hash per show.
+ * <p>
+ * Bit {@code n} of {@code cinehub:seat:bitmap:<showId>} is set while the seat with layout
+ * ordinal {@code n} is held, and {@code cinehub:seat:holds:<showId>} maps the ordinal to
+ * {@code <userId>:<expiresAtMillis>}. The hash also keeps the earliest expiry under the
+ * {@code next} field, so expired holds are swept lazily and only when one is due.
+ * A show's whole availability map is a single GET of {@code ceil(seats / 8)} bytes.
+ * <p>
+ * Ordinals are only meaningful while the screen's layout is unchanged, which
+ * {@link com.razkart.cinehub.venue.service.ScreenLayoutCache} guarantees until restart.
+ */
+@Service
+@ConditionalOnProperty(name = "cinehub.seat-lock.backend", havingValue = "bitmap")
+@RequiredArgsConstructor
+@Slf4j
+public class BitmapSeatLockService implements SeatLockService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatLayoutResolver seatLayoutResolver;
+
+    private static final String BITMAP_PREFIX = "cinehub:seat:bitmap:";
+    private static final String HOLDS_PREFIX = "cinehub:seat:holds:";
+
+    // Clears expired holds when the earliest recorded expiry has passed. Expects KEYS[1] = bitmap, KEYS[2] = holds.
+    private static final String PRUNE_FUNCTION = """
+            local function prune(now)
+                local nextExpiry = tonumber(redis.call('HGET', KEYS[2], 'next'))
+                if not nextExpiry or nextExpiry > now then
+                    return
+                end
+                local entries = redis.call('HGETALL', KEYS[2])
+                local earliest = nil
+                for i = 1, #entries, 2 do
+                    if entries[i] ~= 'next' then
+                        local expiresAt = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+                        if expiresAt <= now then
+                            redis.call('SETBIT', KEYS[1], entries[i], 0)
+                            redis.call('HDEL', KEYS[2], entries[i])
+                        elseif not earliest or expiresAt < earliest then
+                            earliest = expiresAt
+                        end
+                    end
+                end
+                if earliest then
+                    redis.call('HSET', KEYS[2], 'next', earliest)
+                else
+                    redis.call('HDEL', KEYS[2], 'next')
+                end
+            end
+            """;
+
+    // ARGV[1] = userId, ARGV[2] = now millis, ARGV[3] = expiry epoch millis, ARGV[4..n] = ordinals
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LOCK_SCRIPT = RedisScript.of(PRUNE_FUNCTION + """
+            local now = tonumber(ARGV[2])
+            prune(now)
+            local conflicts = {}
+            for i = 4, #ARGV do
+                if redis.call('GETBIT', KEYS[1], ARGV[i]) == 1 then
+                    table.insert(conflicts, ARGV[i])
+                end
+            end
+            if #conflicts > 0 then
+                return conflicts
+            end
+            local hold = ARGV[1] .. ':' .. ARGV[3]
+            for i = 4, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+                redis.call('HSET', KEYS[2], ARGV[i], hold)
+            end
+            local nextExpiry = tonumber(redis.call('HGET', KEYS[2], 'next'))
+            if not nextExpiry or tonumber(ARGV[3]) < nextExpiry then
+                redis.call('HSET', KEYS[2], 'next', ARGV[3])
+            end
+            local ttl = tonumber(ARGV[3]) - now
+            for _, key in ipairs(KEYS) do
+                if redis.call('PTTL', key) < ttl then
+                    redis.call('PEXPIRE', key, ttl)
+                end
+            end
+            return conflicts
+            """, List.class);
+
+    // Same ARGV layout as LOCK_SCRIPT; only extends holds the user still owns
+    private static final RedisScript<Boolean> EXTEND_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[2])
+            local prefix = ARGV[1] .. ':'
+            for i = 4, #ARGV do
+                local hold = redis.call('HGET', KEYS[2], ARGV[i])
+                if not hold or string.sub(hold, 1, #prefix) ~= prefix
+                        or tonumber(string.match(hold, ':(%d+)$')) <= now then
+                    return 0
+                end
+            end
+            local hold = prefix .. ARGV[3]
+            for i = 4, #ARGV do
+                redis.call('HSET', KEYS[2], ARGV[i], hold)
+            end
+            local ttl = tonumber(ARGV[3]) - now
+            for _, key in ipairs(KEYS) do
+                if redis.call('PTTL', key) < ttl then
+                    redis.call('PEXPIRE', key, ttl)
+                end
+            end
+            return 1
+            """, Boolean.class);
+
+    // ARGV[1..n] = ordinals
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            for i = 1, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 0)
+                redis.call('HDEL', KEYS[2], ARGV[i])
+            end
+            return #ARGV
+            """, Long.class);
+
+    // ARGV[1] = userId
+    private static final RedisScript<Long> RELEASE_BY_USER_SCRIPT = RedisScript.of("""
+            local prefix = ARGV[1] .. ':'
+            local entries = redis.call('HGETALL', KEYS[2])
+            local released = 0
+            for i = 1, #entries, 2 do
+                if entries[i] ~= 'next' and string.sub(entries[i + 1], 1, #prefix) == prefix then
+                    redis.call('SETBIT', KEYS[1], entries[i], 0)
+                    redis.call('HDEL', KEYS[2], entries[i])
+                    released = released + 1
+                end
+            end
+            return released
+            """, Long.class);
+
+    // ARGV[1] = now millis
+    private static final RedisScript<byte[]> READ_SCRIPT = RedisScript.of(PRUNE_FUNCTION + """
+            prune(tonumber(ARGV[1]))
+            return redis.call('GET', KEYS[1])
+            """, byte[].class);
+
+    @Override
+    public SeatLockResult lockSeats(Long showId, List<Long> seatIds, Long userId, int expiryMinutes) {
+        ScreenLayout layout = seatLayoutResolver.forShow(showId);
+        List<?> conflicts = redisTemplate.execute(LOCK_SCRIPT, buildKeys(showId),
+                buildHoldArgs(layout, seatIds, userId, Duration.ofMinutes(expiryMinutes)));
+
+        if (conflicts != null && !conflicts.isEmpty()) {
+            List<Long> conflictingSeatIds = conflicts.stream()
+                    .map(ordinal -> layout.seatIdAt(Integer.parseInt(ordinal.toString())))
+                    .toList();
+            log.debug("Seats {} already held in show {}", conflictingSeatIds, showId);
+            return SeatLockResult.conflict(conflictingSeatIds);
+        }
+
+        log.debug("Locked seats {} for user {} in show {}", seatIds, userId, showId);
+        return SeatLockResult.locked(seatIds);
+    }
+
+    @Override
+    public boolean extendSeats(Long showId, List<Long> seatIds, Long userId, Duration holdFor) {
+        ScreenLayout layout = seatLayoutResolver.forShow(showId);
+        Boolean extended = redisTemplate.execute(EXTEND_SCRIPT, buildKeys(showId),
+                buildHoldArgs(layout, seatIds, userId, holdFor));
+        log.debug("Extended seats {} for user {} in show {}: {}", seatIds, userId, showId, extended);
+        return Boolean.TRUE.equals(extended);
+    }
+
+    @Override
+    public void releaseSeats(Long showId, List<Long> seatIds) {
+        ScreenLayout layout = seatLayoutResolver.forShow(showId);
+        Object[] ordinals = seatIds.stream()
+                .mapToInt(layout::ordinalOf)
+                .filter(ordinal -> ordinal >= 0)
+                .mapToObj(String::valueOf)
+                .toArray();
+
+        if (ordinals.length > 0) {
+            redisTemplate.execute(RELEASE_SCRIPT, buildKeys(showId), ordinals);
+        }
+        log.info("Released {} seats for show {}", seatIds.size(), showId);
+    }
+
+    @Override
+    public void releaseSeatsByUser(Long showId, Long userId) {
+        redisTemplate.execute(RELEASE_BY_USER_SCRIPT, buildKeys(showId), userId.toString());
+        log.info("Released all seats for user {} in show {}", userId, showId);
+    }
+
+    @Override
+    public Set<Long> getLockedSeats(Long showId) {
+        byte[] bitmap = redisTemplate.execute(READ_SCRIPT, redisTemplate.getStringSerializer(), RedisSerializer.byteArray(),
+                buildKeys(showId), String.valueOf(System.currentTimeMillis()));
+
+        if (bitmap == null || bitmap.length == 0) {
+            return Collections.emptySet();
+        }
+
+        ScreenLayout layout = seatLayoutResolver.forShow(showId);
+        Set<Long> lockedSeats = new HashSet<>();
+        int limit = Math.min(layout.size(), bitmap.length * 8);
+        for (int ordinal = 0; ordinal < limit; ordinal++) {
+            // Redis bitmaps are big-endian within each byte
+            if ((bitmap[ordinal >>> 3] & (0x80 >>> (ordinal & 7))) != 0) {
+                lockedSeats.add(layout.seatIdAt(ordinal));
+            }
+        }
+        return lockedSeats;
+    }
+
+    @Override
+    public boolean isSeatAvailable(Long showId, Long seatId) {
+        int ordinal = seatLayoutResolver.forShow(showId).ordinalOf(seatId);
+        if (ordinal < 0) {
+            return false;
+        }
+
+        Object hold = redisTemplate.opsForHash().get(HOLDS_PREFIX + showId, String.valueOf(ordinal));
+        if (hold == null) {
+            return true;
+        }
+        String value = hold.toString();
+        return Long.parseLong(value.substring(value.indexOf(':') + 1)) <= System.currentTimeMillis();
+    }
+
+    private Object[] buildHoldArgs(ScreenLayout layout, List<Long> seatIds, Long userId, Duration holdFor) {
+        long now = System.currentTimeMillis();
+        Object[] args = new Object[seatIds.size() + 3];
+        args[0] = userId.toString();
+        args[1] = String.valueOf(now);
+        args[2] = String.valueOf(now + holdFor.toMillis());
+        for (int i = 0; i < seatIds.size(); i++) {
+            args[i + 3] = String.valueOf(toOrdinal(layout, seatIds.get(i)));
+        }
+        return args;
+    }
+
+    private int toOrdinal(ScreenLayout layout, Long seatId) {
+        int ordinal = layout.ordinalOf(seatId);
+        if (ordinal < 0) {
+            throw new BusinessException("Seat " + seatId + " does not belong to this show's screen");
+        }
+        return ordinal;
+    }
+
+    private List<String> buildKeys(Long showId) {
+        return List.of(BITMAP_PREFIX + showId, HOLDS_PREFIX + showId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.BookingGroupResponse;
+import com.razkart.cinehub.booking.dto.CartRequest;
+import com.razkart.cinehub.booking.dto.GroupBookingRequest;
+import com.razkart.cinehub.booking.dto.PaymentConfirmation;
+import com.razkart.cinehub.user.entity.User;
+
+/**
+ * Service interface for group bookings and carts: one order of seats across one or more shows.
+ */
+public interface BookingGroupService {
+
+    /**
+     * Hold all requested seats, one booking per show, or none of them.
+     */
+    BookingGroupResponse createGroup(GroupBookingRequest request, User user);
+
+    /**
+     * Hold a customer's cart, one booking per show, or none of them.
+     */
+    BookingGroupResponse checkoutCart(CartRequest request, User user);
+
+    /**
+     * Confirm every booking of the group after its single payment succeeded.
+     */
+    BookingGroupResponse confirmGroup(Long groupId, PaymentConfirmation payment);
+
+    /**
+     * Cancel every booking of the group.
+     */
+    BookingGroupResponse cancelGroup(Long groupId, Long userId, String reason);
+
+    BookingGroupResponse getGroup(Long groupId, Long userId);
+}
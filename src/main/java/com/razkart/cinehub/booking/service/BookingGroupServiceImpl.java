@@ -0,0 +1,242 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.*;
+import com.razkart.cinehub.booking.dto.CartRequest.CartItem;
+import com.razkart.cinehub.booking.dto.GroupBookingRequest.ShowSeats;
+import com.razkart.cinehub.booking.entity.Booking;
+import com.razkart.cinehub.booking.entity.BookingGroup;
+import com.razkart.cinehub.booking.entity.BookingGroupType;
+import com.razkart.cinehub.booking.entity.BookingStatus;
+import com.razkart.cinehub.booking.repository.BookingGroupRepository;
+import com.razkart.cinehub.booking.repository.BookingRepository;
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.common.exception.ResourceNotFoundException;
+import com.razkart.cinehub.common.exception.SeatNotAvailableException;
+import com.razkart.cinehub.common.util.IdGenerator;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange.ChangeType;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.show.repository.ShowRepository;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Group bookings and carts hold each show's seats with one all-or-nothing lock call, then save the
+ * group with all of its bookings and seats in one write transaction, so the round trips grow with the
+ * number of shows rather than the number of seats. Member bookings are ordinary bookings: they expire,
+ * confirm and cancel through {@link BookingService}, just all at once and against one payment.
+ * <p>
+ * A group is a bulk order for admins and partners; a cart is a customer's few shows checked out
+ * together, each held to the single-booking limits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingGroupServiceImpl implements BookingGroupService {
+
+    private final BookingGroupRepository bookingGroupRepository;
+    private final BookingRepository bookingRepository;
+    private final ShowRepository showRepository;
+    private final SeatLockService seatLockService;
+    private final SeatLayoutResolver seatLayoutResolver;
+    private final PendingBookingAssembler pendingBookingAssembler;
+    private final PricingEngine pricingEngine;
+    private final BookingService bookingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final IdGenerator idGenerator;
+    private final ActiveBookingMarkers activeBookingMarkers;
+
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    @Value("${cinehub.booking.group.max-seats:500}") private int maxSeatsPerGroup;
+    @Value("${cinehub.booking.group.hold-minutes:30}") private int groupHoldMinutes;
+    @Value("${cinehub.booking.cart.max-shows:4}") private int maxShowsPerCart;
+    @Value("${cinehub.booking.max-seats-per-booking:10}") private int maxSeatsPerBooking;
+    @Value("${cinehub.booking.expiry-minutes:10}") private int bookingExpiryMinutes;
+    @Value("${cinehub.booking.max-hold-minutes:20}") private int maxHoldMinutes;
+
+    private record ShowHold(Show show, ScreenLayout layout, ShowPriceTable priceTable, List<Long> seatIds) {
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingGroupResponse createGroup(GroupBookingRequest request, User user) {
+        int seatCount = request.shows().stream().mapToInt(showSeats -> showSeats.seatIds().size()).sum();
+        log.info("Initiating group booking for user: {}, shows: {}, seats: {}", user.getId(), request.shows().size(), seatCount);
+        if (seatCount > maxSeatsPerGroup) throw new BusinessException("Maximum " + maxSeatsPerGroup + " seats allowed per group booking");
+
+        return hold(BookingGroupType.GROUP, request.organizationName(), request.shows(), user, groupHoldMinutes);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingGroupResponse checkoutCart(CartRequest request, User user) {
+        log.info("Checking out cart for user: {}, shows: {}", user.getId(), request.items().size());
+        if (request.items().size() > maxShowsPerCart) throw new BusinessException("Maximum " + maxShowsPerCart + " shows allowed per cart");
+
+        // Each cart item is held to the same rules as a single booking of its show
+        List<ShowSeats> shows = new ArrayList<>(request.items().size());
+        for (CartItem item : request.items()) {
+            if (item.seatIds().size() > maxSeatsPerBooking) throw new BusinessException("Maximum " + maxSeatsPerBooking + " seats allowed per show");
+            if (activeBookingMarkers.isMarked(item.showId(), user.getId())
+                    || bookingRepository.existsByUserIdAndShowIdAndStatusIn(user.getId(), item.showId(), ACTIVE_STATUSES)) {
+                throw new BusinessException("You already have a booking for show " + item.showId());
+            }
+            shows.add(new ShowSeats(item.showId(), item.seatIds(), item.pricingVersion()));
+        }
+
+        BookingGroupResponse cart = hold(BookingGroupType.CART, null, shows, user, bookingExpiryMinutes);
+        cart.bookings().forEach(booking -> activeBookingMarkers.mark(booking.showId(), user.getId(), booking.id(),
+                Duration.ofMinutes(maxHoldMinutes)));
+        return cart;
+    }
+
+    @Override
+    @Transactional
+    public BookingGroupResponse confirmGroup(Long groupId, PaymentConfirmation payment) {
+        log.info("Confirming booking group: {}", groupId);
+
+        BookingGroup group = findGroup(groupId);
+        if (group.getStatus() != BookingStatus.PENDING) throw new BusinessException("Booking group is not in pending state");
+        if (group.isExpired()) throw new BusinessException("Booking group has expired");
+        if (payment.amount().compareTo(group.getFinalAmount()) != 0) throw new BusinessException("Payment amount mismatch");
+
+        // The payment covers the whole group, so each booking is confirmed for its own share of it
+        List<BookingResponse> bookings = group.getBookings().stream()
+                .map(booking -> bookingService.confirmGroupMember(booking.getId(),
+                        new PaymentConfirmation(booking.getFinalAmount(), payment.paymentId(), payment.paymentMethod())))
+                .toList();
+
+        group.setStatus(BookingStatus.CONFIRMED);
+        group.setBookedAt(LocalDateTime.now());
+        BookingGroup confirmedGroup = bookingGroupRepository.save(group);
+        log.info("Booking group confirmed: {}", confirmedGroup.getGroupNumber());
+        return BookingGroupResponse.from(confirmedGroup, bookings);
+    }
+
+    @Override
+    @Transactional
+    public BookingGroupResponse cancelGroup(Long groupId, Long userId, String reason) {
+        log.info("Cancelling booking group: {}", groupId);
+
+        BookingGroup group = findGroupForUser(groupId, userId, "cancel");
+        if (group.getStatus() == BookingStatus.CANCELLED) throw new BusinessException("Booking group is already cancelled");
+
+        List<BookingResponse> bookings = new ArrayList<>(group.getBookings().size());
+        for (Booking booking : group.getBookings()) {
+            boolean active = booking.getStatus() == BookingStatus.PENDING || booking.getStatus() == BookingStatus.CONFIRMED;
+            bookings.add(active ? bookingService.cancelGroupMember(booking.getId(), userId, reason) : BookingResponse.from(booking));
+        }
+
+        group.setStatus(BookingStatus.CANCELLED);
+        group.setCancelledAt(LocalDateTime.now());
+        BookingGroup cancelledGroup = bookingGroupRepository.save(group);
+        log.info("Booking group cancelled: {}", cancelledGroup.getGroupNumber());
+        return BookingGroupResponse.from(cancelledGroup, bookings);
+    }
+
+    @Override
+    public BookingGroupResponse getGroup(Long groupId, Long userId) {
+        return BookingGroupResponse.from(findGroupForUser(groupId, userId, "view"));
+    }
+
+    private BookingGroupResponse hold(BookingGroupType type, String organizationName, List<ShowSeats> shows, User user,
+                                      int holdMinutes) {
+        List<ShowHold> holds = new ArrayList<>(shows.size());
+        Set<Long> showIds = new HashSet<>();
+        for (ShowSeats showSeats : shows) {
+            if (!showIds.add(showSeats.showId())) throw new BusinessException("Each show can only be listed once");
+            holds.add(prepareHold(showSeats));
+        }
+
+        List<ShowHold> locked = new ArrayList<>(holds.size());
+        try {
+            for (ShowHold hold : holds) {
+                SeatLockResult lock = seatLockService.lockSeats(hold.show().getId(), hold.seatIds(), user.getId(), holdMinutes);
+                if (!lock.isLocked()) {
+                    throw new SeatNotAvailableException("Some selected seats for show " + hold.show().getId()
+                            + " are no longer available: " + lock.conflictingSeatIds());
+                }
+                locked.add(hold);
+            }
+            BookingGroup savedGroup = transactionTemplate.execute(status ->
+                    saveGroup(type, organizationName, holds, user, LocalDateTime.now().plusMinutes(holdMinutes)));
+            log.info("{} initiated: {} ({} seats)", type == BookingGroupType.CART ? "Cart" : "Group booking",
+                    savedGroup.getGroupNumber(), savedGroup.getSeatCount());
+
+            List<BookingResponse> bookings = new ArrayList<>(holds.size());
+            for (int i = 0; i < holds.size(); i++) {
+                bookings.add(BookingResponse.from(savedGroup.getBookings().get(i), holds.get(i).layout()));
+            }
+            return BookingGroupResponse.from(savedGroup, bookings);
+        } catch (RuntimeException e) {
+            locked.forEach(hold -> seatLockService.releaseSeats(hold.show().getId(), hold.seatIds()));
+            throw e;
+        }
+    }
+
+    private ShowHold prepareHold(ShowSeats showSeats) {
+        Show show = showRepository.findByIdForBooking(showSeats.showId())
+                .orElseThrow(() -> new ResourceNotFoundException("Show not found: " + showSeats.showId()));
+        if (!show.isBookable()) throw new BusinessException("Show " + show.getId() + " is not available for booking");
+
+        ScreenLayout layout = seatLayoutResolver.forShow(show);
+        if (new HashSet<>(showSeats.seatIds()).size() != showSeats.seatIds().size()) throw new BusinessException("Each seat can only be selected once");
+        for (Long seatId : showSeats.seatIds()) {
+            int ordinal = layout.ordinalOf(seatId);
+            if (ordinal < 0 || !layout.isUsable(ordinal)) throw new BusinessException("Seat " + seatId + " cannot be booked for show " + show.getId());
+        }
+        return new ShowHold(show, layout, pricingEngine.priceTable(show, showSeats.pricingVersion()), showSeats.seatIds());
+    }
+
+    // Bookings and their seats cascade from the group, so the seat rows go out in JDBC batches
+    private BookingGroup saveGroup(BookingGroupType type, String organizationName, List<ShowHold> holds, User user,
+                                   LocalDateTime expiresAt) {
+        BookingGroup group = BookingGroup.builder()
+                .groupNumber(idGenerator.next(type == BookingGroupType.CART ? "CRT" : "GRP"))
+                .type(type).user(user).organizationName(organizationName)
+                .expiresAt(expiresAt)
+                .build();
+        BigDecimal finalAmount = BigDecimal.ZERO;
+        for (ShowHold hold : holds) {
+            Booking booking = pendingBookingAssembler.assemble(hold.show(), hold.layout(), hold.priceTable(), hold.seatIds(), user);
+            booking.setExpiresAt(group.getExpiresAt());
+            group.addBooking(booking);
+            finalAmount = finalAmount.add(booking.getFinalAmount());
+        }
+        group.setFinalAmount(finalAmount);
+
+        BookingGroup saved = bookingGroupRepository.save(group);
+        holds.forEach(hold -> eventPublisher.publishEvent(SeatAvailabilityChange.of(hold.show().getId(), ChangeType.HELD, hold.seatIds())));
+        return saved;
+    }
+
+    private BookingGroup findGroup(Long groupId) {
+        return bookingGroupRepository.findById(groupId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking group not found: " + groupId));
+    }
+
+    private BookingGroup findGroupForUser(Long groupId, Long userId, String action) {
+        BookingGroup group = findGroup(groupId);
+        if (!group.getUser().getId().equals(userId)) throw new BusinessException("Not authorized to " + action + " this booking group");
+        return group;
+    }
+}
@@ -0,0 +1,290 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.BestAvailableRequest;
+import com.razkart.cinehub.booking.dto.BookingResponse;
+import com.razkart.cinehub.booking.entity.Booking;
+import com.razkart.cinehub.booking.repository.BookedSeatRepository;
+import com.razkart.cinehub.booking.repository.BookingRepository;
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.common.exception.SeatNotAvailableException;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange.ChangeType;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Optional single-writer execution mode for seat holds ({@code cinehub.booking.pipeline.enabled}).
+ * <p>
+ * Shows are hashed onto a fixed set of partitions, each drained by one virtual thread, so every hold
+ * attempt for a show is decided serially against an in-memory set of its unavailable seats instead of
+ * racing other requests to Redis and MySQL. Requests that lose in memory fail without a round trip.
+ * Winners still take their seats through {@link SeatLockService}, which keeps other nodes and the
+ * non-pipelined paths honest, and the bookings accepted from one drained batch are saved together in
+ * a single transaction.
+ * <p>
+ * The in-memory view is seeded from the lock service and booked seats, dropped when seats are released
+ * on this node, and re-seeded after {@code state-ttl-ms} to pick up releases elsewhere. Views older than
+ * that are dropped after each drained batch, so a partition only keeps the shows it is busy with.
+ */
+@Component
+@ConditionalOnProperty(name = "cinehub.booking.pipeline.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class BookingPipeline {
+
+    private static final int BEST_AVAILABLE_ATTEMPTS = 3;
+
+    private final SeatLockService seatLockService;
+    private final BookedSeatRepository bookedSeatRepository;
+    private final BookingRepository bookingRepository;
+    private final BestAvailableSeatAllocator bestAvailableSeatAllocator;
+    private final PendingBookingAssembler pendingBookingAssembler;
+    private final ActiveBookingMarkers activeBookingMarkers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cinehub.booking.expiry-minutes:10}") private int bookingExpiryMinutes;
+    @Value("${cinehub.booking.max-hold-minutes:20}") private int maxHoldMinutes;
+    @Value("${cinehub.booking.pipeline.partitions:0}") private int partitionCount;
+    @Value("${cinehub.booking.pipeline.queue-capacity:10000}") private int queueCapacity;
+    @Value("${cinehub.booking.pipeline.batch-size:64}") private int batchSize;
+    @Value("${cinehub.booking.pipeline.state-ttl-ms:2000}") private long stateTtlMillis;
+    @Value("${cinehub.booking.pipeline.submit-timeout-ms:5000}") private long submitTimeoutMillis;
+
+    private final Set<Long> staleShows = ConcurrentHashMap.newKeySet();
+    private Partition[] partitions;
+
+    @PostConstruct
+    public void start() {
+        int count = partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors();
+        partitions = new Partition[count];
+        for (int i = 0; i < count; i++) {
+            partitions[i] = new Partition(new ArrayBlockingQueue<>(queueCapacity));
+            partitions[i].worker = Thread.ofVirtual().name("booking-pipeline-" + i).start(partitions[i]::run);
+        }
+        log.info("Booking pipeline started with {} partitions", count);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Partition partition : partitions) {
+            partition.worker.interrupt();
+        }
+    }
+
+    /**
+     * Hold exactly the given seats for the user. The request must already be validated.
+     */
+    public BookingResponse holdSeats(Show show, ScreenLayout layout, ShowPriceTable priceTable, User user, List<Long> seatIds) {
+        return submit(show, layout, priceTable, user, unavailableSeatIds -> {
+            List<Long> conflicts = seatIds.stream().filter(unavailableSeatIds::contains).toList();
+            if (!conflicts.isEmpty()) {
+                throw new SeatNotAvailableException("Some selected seats are no longer available: " + conflicts);
+            }
+            return seatIds;
+        });
+    }
+
+    /**
+     * Hold the best available adjacent seats for the user. The request must already be validated.
+     */
+    public BookingResponse holdBestAvailable(Show show, ScreenLayout layout, ShowPriceTable priceTable, User user,
+                                             BestAvailableRequest request) {
+        return submit(show, layout, priceTable, user, unavailableSeatIds -> {
+            List<Long> seatIds = bestAvailableSeatAllocator.allocate(layout, unavailableSeatIds, request.seatType(), request.seatCount());
+            if (seatIds.isEmpty()) {
+                throw new SeatNotAvailableException("No " + request.seatCount() + " adjacent seats are available together");
+            }
+            return seatIds;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatAvailabilityChange(SeatAvailabilityChange change) {
+        // Seats taken through the pipeline are already in its view; only releases need a re-seed
+        if (!change.makesUnavailable()) {
+            staleShows.add(change.showId());
+        }
+    }
+
+    private BookingResponse submit(Show show, ScreenLayout layout, ShowPriceTable priceTable, User user,
+                                   Function<Set<Long>, List<Long>> selector) {
+        HoldRequest request = new HoldRequest(show, layout, priceTable, user, selector, new CompletableFuture<>());
+        if (!partitionOf(show.getId()).queue.offer(request)) {
+            throw new BusinessException("Too many booking requests for this show, please try again");
+        }
+
+        try {
+            return request.result().get(submitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException("Booking could not be completed");
+        } catch (TimeoutException e) {
+            // Still queued requests are skipped; one already being saved stays pending until it expires
+            request.result().cancel(false);
+            throw new BusinessException("Booking is taking longer than expected, please check your bookings before retrying");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Booking was interrupted");
+        }
+    }
+
+    private Partition partitionOf(Long showId) {
+        return partitions[(int) Math.floorMod(showId, (long) partitions.length)];
+    }
+
+    private record HoldRequest(Show show, ScreenLayout layout, ShowPriceTable priceTable, User user,
+                               Function<Set<Long>, List<Long>> selector, CompletableFuture<BookingResponse> result) {
+    }
+
+    private record AcceptedHold(HoldRequest request, List<Long> seatIds) {
+    }
+
+    private record ShowSeatState(Set<Long> unavailableSeatIds, String layoutVersion, long loadedAt) {
+    }
+
+    /**
+     * One serial queue with its worker; the seat state map is only ever touched by that worker.
+     */
+    private final class Partition {
+
+        private final BlockingQueue<HoldRequest> queue;
+        private final Map<Long, ShowSeatState> states = new HashMap<>();
+        private Thread worker;
+
+        private Partition(BlockingQueue<HoldRequest> queue) {
+            this.queue = queue;
+        }
+
+        private void run() {
+            List<HoldRequest> batch = new ArrayList<>(batchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, batchSize - 1);
+                    process(batch);
+                    evictExpiredStates();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    log.error("Booking pipeline batch failed", e);
+                    batch.forEach(request -> request.result().completeExceptionally(e));
+                } finally {
+                    batch.clear();
+                }
+            }
+            queue.forEach(request -> request.result().completeExceptionally(new BusinessException("Booking service is shutting down")));
+        }
+
+        private void process(List<HoldRequest> batch) {
+            List<AcceptedHold> accepted = new ArrayList<>(batch.size());
+            Set<String> usersInBatch = new HashSet<>();
+            for (HoldRequest request : batch) {
+                if (request.result().isDone()) {
+                    continue;
+                }
+                try {
+                    if (!usersInBatch.add(request.show().getId() + ":" + request.user().getId())) {
+                        throw new BusinessException("You already have a booking for this show");
+                    }
+                    accepted.add(new AcceptedHold(request, decide(request)));
+                } catch (RuntimeException e) {
+                    request.result().completeExceptionally(e);
+                }
+            }
+            persist(accepted);
+        }
+
+        private List<Long> decide(HoldRequest request) {
+            Long showId = request.show().getId();
+            Set<Long> unavailableSeatIds = stateFor(showId, request.layout()).unavailableSeatIds();
+            for (int attempt = 0; attempt < BEST_AVAILABLE_ATTEMPTS; attempt++) {
+                List<Long> seatIds = request.selector().apply(unavailableSeatIds);
+                SeatLockResult lock = seatLockService.lockSeats(showId, seatIds, request.user().getId(), bookingExpiryMinutes);
+                if (lock.isLocked()) {
+                    unavailableSeatIds.addAll(seatIds);
+                    return seatIds;
+                }
+                // Held by another node or path since the view was seeded
+                unavailableSeatIds.addAll(lock.conflictingSeatIds());
+            }
+            throw new SeatNotAvailableException("Selected seats are no longer available");
+        }
+
+        // An expired view would be re-seeded on its next use anyway; only recently booked shows are kept
+        private void evictExpiredStates() {
+            long now = System.currentTimeMillis();
+            states.values().removeIf(state -> now - state.loadedAt() > stateTtlMillis);
+            staleShows.removeIf(showId -> partitionOf(showId) == this && !states.containsKey(showId));
+        }
+
+        private ShowSeatState stateFor(Long showId, ScreenLayout layout) {
+            long now = System.currentTimeMillis();
+            ShowSeatState state = states.get(showId);
+            if (staleShows.remove(showId) || state == null || !state.layoutVersion().equals(layout.getVersion())
+                    || now - state.loadedAt() > stateTtlMillis) {
+                Set<Long> unavailableSeatIds = new HashSet<>(seatLockService.getLockedSeats(showId));
+                unavailableSeatIds.addAll(bookedSeatRepository.findBookedSeatIdsByShowId(showId));
+                state = new ShowSeatState(unavailableSeatIds, layout.getVersion(), now);
+                states.put(showId, state);
+            }
+            return state;
+        }
+
+        private void persist(List<AcceptedHold> accepted) {
+            if (accepted.isEmpty()) {
+                return;
+            }
+            try {
+                List<Booking> savedBookings = transactionTemplate.execute(status -> {
+                    List<Booking> bookings = new ArrayList<>(accepted.size());
+                    for (AcceptedHold hold : accepted) {
+                        HoldRequest request = hold.request();
+                        bookings.add(pendingBookingAssembler.assemble(request.show(), request.layout(), request.priceTable(),
+                                hold.seatIds(), request.user()));
+                    }
+                    List<Booking> saved = bookingRepository.saveAll(bookings);
+                    accepted.forEach(hold -> eventPublisher.publishEvent(
+                            SeatAvailabilityChange.of(hold.request().show().getId(), ChangeType.HELD, hold.seatIds())));
+                    return saved;
+                });
+                for (int i = 0; i < accepted.size(); i++) {
+                    HoldRequest request = accepted.get(i).request();
+                    activeBookingMarkers.mark(request.show().getId(), request.user().getId(), savedBookings.get(i).getId(),
+                            Duration.ofMinutes(maxHoldMinutes));
+                    log.info("Booking initiated: {}", savedBookings.get(i).getBookingNumber());
+                    request.result().complete(BookingResponse.from(savedBookings.get(i), request.layout()));
+                }
+            } catch (RuntimeException e) {
+                if (accepted.size() > 1) {
+                    // One bad row rolls back the whole batch; save the rest one by one
+                    log.warn("Booking batch of {} failed, retrying individually: {}", accepted.size(), e.getMessage());
+                    accepted.forEach(hold -> persist(List.of(hold)));
+                    return;
+                }
+                HoldRequest request = accepted.getFirst().request();
+                seatLockService.releaseSeatsByUser(request.show().getId(), request.user().getId());
+                staleShows.add(request.show().getId());
+                request.result().completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.razkart.cinehub.booking.service;
 
 import com.razkart.cinehub.booking.dto.*;
+import com.razkart.cinehub.show.dto.SeatAvailabilityBitset;
 import com.razkart.cinehub.show.dto.SeatAvailabilityResponse;
 import com.razkart.cinehub.user.entity.User;
 
@@ -16,16 +17,36 @@ public interface BookingService {
      */
     BookingResponse initiateBooking(BookingRequest request, User user);
 
+    /**
+     * Initiate a booking for the best available block of adjacent seats, chosen and locked server-side.
+     */
+    BookingResponse initiateBestAvailableBooking(BestAvailableRequest request, User user);
+
     /**
      * Confirm booking after successful payment.
      */
     BookingResponse confirmBooking(Long bookingId, PaymentConfirmation payment);
 
+    /**
+     * Confirm one booking of a group or cart, as part of confirming the whole group.
+     */
+    BookingResponse confirmGroupMember(Long bookingId, PaymentConfirmation payment);
+
+    /**
+     * Extend the seat hold of a pending booking, up to the maximum total hold time.
+     */
+    BookingResponse extendBooking(Long bookingId, Long userId);
+
     /**
      * Cancel a booking.
      */
     BookingResponse cancelBooking(Long bookingId, Long userId, String reason);
 
+    /**
+     * Cancel one booking of a group or cart, as part of cancelling the whole group.
+     */
+    BookingResponse cancelGroupMember(Long bookingId, Long userId, String reason);
+
     /**
      * Get booking details.
      */
@@ -41,11 +62,21 @@ public interface BookingService {
      */
     List<BookingResponse> getUserBookings(Long userId);
 
+    /**
+     * Get a page of a user's bookings, newest first, after an optional cursor from the previous page.
+     */
+    BookingHistoryPage getBookingHistory(Long userId, String cursor, int limit);
+
     /**
      * Get seat availability for a show.
      */
     SeatAvailabilityResponse getAvailableSeats(Long showId);
 
+    /**
+     * Get seat availability for a show as a bitset over the screen's seat layout.
+     */
+    SeatAvailabilityBitset getAvailableSeatsBitset(Long showId);
+
     /**
      * Get ticket details.
      */
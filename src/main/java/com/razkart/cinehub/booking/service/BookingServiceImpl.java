@@ -4,21 +4,31 @@ import com.razkart.cinehub.booking.dto.*;
 import com.razkart.cinehub.booking.entity.*;
 import com.razkart.cinehub.booking.repository.*;
 import com.razkart.cinehub.common.exception.*;
+import com.razkart.cinehub.common.util.IdGenerator;
+import com.razkart.cinehub.notification.service.NotificationService;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange.ChangeType;
+import com.razkart.cinehub.show.dto.SeatAvailabilityBitset;
 import com.razkart.cinehub.show.dto.SeatAvailabilityResponse;
 import com.razkart.cinehub.show.entity.Show;
 import com.razkart.cinehub.show.repository.ShowRepository;
 import com.razkart.cinehub.user.entity.User;
-import com.razkart.cinehub.venue.entity.Seat;
-import com.razkart.cinehub.venue.repository.SeatRepository;
+import com.razkart.cinehub.venue.service.ScreenLayout;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,91 +42,138 @@ public class BookingServiceImpl implements BookingService {
     private final BookedSeatRepository bookedSeatRepository;
     private final TicketRepository ticketRepository;
     private final ShowRepository showRepository;
-    private final SeatRepository seatRepository;
     private final SeatLockService seatLockService;
+    private final SeatLayoutResolver seatLayoutResolver;
+    private final BestAvailableSeatAllocator bestAvailableSeatAllocator;
+    private final PendingBookingAssembler pendingBookingAssembler;
+    private final PricingEngine pricingEngine;
+    private final ObjectProvider<BookingPipeline> bookingPipeline;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final IdGenerator idGenerator;
+    private final ActiveBookingMarkers activeBookingMarkers;
+    private final NotificationService notificationService;
+
+    private static final int BEST_AVAILABLE_ATTEMPTS = 3;
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     @Value("${cinehub.booking.expiry-minutes:10}") private int bookingExpiryMinutes;
+    @Value("${cinehub.booking.max-hold-minutes:20}") private int maxHoldMinutes;
     @Value("${cinehub.booking.max-seats-per-booking:10}") private int maxSeatsPerBooking;
-    @Value("${cinehub.booking.convenience-fee-percent:5.0}") private BigDecimal convenienceFeePercent;
-    @Value("${cinehub.booking.tax-percent:18.0}") private BigDecimal taxPercent;
+
+    // Initiating a booking runs without a transaction: reads take a connection only per query,
+    // the seat lock is a Redis call, and only the insert runs in a short write transaction.
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookingResponse initiateBooking(BookingRequest request, User user) {
         log.info("Initiating booking for user: {}, show: {}", user.getId(), request.showId());
+        rejectIfMarkedActive(request.showId(), user);
 
-        Show show = findShow(request.showId());
-        validateBookingRequest(show, request, user);
+        Show show = findShowForBooking(request.showId());
+        ScreenLayout layout = seatLayoutResolver.forShow(show);
+        validateBookingRequest(show, layout, request, user);
+        ShowPriceTable priceTable = pricingEngine.priceTable(show, request.pricingVersion());
 
-        List<Long> lockedSeats = seatLockService.lockSeats(show.getId(), request.seatIds(), user.getId(), bookingExpiryMinutes);
-        if (lockedSeats.size() != request.seatIds().size()) {
-            seatLockService.releaseSeatsByUser(show.getId(), user.getId());
-            throw new SeatNotAvailableException("Some selected seats are no longer available");
+        BookingPipeline pipeline = bookingPipeline.getIfAvailable();
+        if (pipeline != null) {
+            return pipeline.holdSeats(show, layout, priceTable, user, request.seatIds());
         }
 
-        try {
-            List<Seat> seats = seatRepository.findAllById(request.seatIds());
-            Map<String, BigDecimal> seatTypePrices = getPricingMap(show);
-            PricingDetail pricing = calculatePricing(seats, seatTypePrices);
-
-            Booking booking = Booking.builder()
-                    .user(user).show(show)
-                    .totalAmount(pricing.ticketAmount()).convenienceFee(pricing.convenienceFee())
-                    .taxAmount(pricing.taxAmount()).finalAmount(pricing.finalAmount())
-                    .expiresAt(LocalDateTime.now().plusMinutes(bookingExpiryMinutes))
-                    .build();
+        SeatLockResult lock = seatLockService.lockSeats(show.getId(), request.seatIds(), user.getId(), bookingExpiryMinutes);
+        if (!lock.isLocked()) {
+            throw new SeatNotAvailableException("Some selected seats are no longer available: " + lock.conflictingSeatIds());
+        }
+        return createPendingBooking(show, layout, priceTable, request.seatIds(), user);
+    }
 
-            seats.forEach(seat -> booking.addSeat(createBookedSeat(show, seat, seatTypePrices)));
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingResponse initiateBestAvailableBooking(BestAvailableRequest request, User user) {
+        log.info("Initiating best-available booking for user: {}, show: {}, seats: {}", user.getId(), request.showId(), request.seatCount());
+        rejectIfMarkedActive(request.showId(), user);
+
+        Show show = findShowForBooking(request.showId());
+        ScreenLayout layout = seatLayoutResolver.forShow(show);
+        validateBookingRequest(show, request.seatCount(), user);
+        ShowPriceTable priceTable = pricingEngine.priceTable(show, request.pricingVersion());
+
+        BookingPipeline pipeline = bookingPipeline.getIfAvailable();
+        if (pipeline != null) {
+            return pipeline.holdBestAvailable(show, layout, priceTable, user, request);
+        }
 
-            Booking savedBooking = bookingRepository.save(booking);
-            log.info("Booking initiated: {}", savedBooking.getBookingNumber());
-            return BookingResponse.from(savedBooking);
-        } catch (Exception e) {
-            seatLockService.releaseSeatsByUser(show.getId(), user.getId());
-            throw e;
+        // Conflicts only come from holds placed since the scan, so retry around them without re-reading
+        Set<Long> unavailableSeatIds = unavailableSeatIds(show.getId());
+        for (int attempt = 0; attempt < BEST_AVAILABLE_ATTEMPTS; attempt++) {
+            List<Long> seatIds = bestAvailableSeatAllocator.allocate(layout, unavailableSeatIds, request.seatType(), request.seatCount());
+            if (seatIds.isEmpty()) {
+                break;
+            }
+            SeatLockResult lock = seatLockService.lockSeats(show.getId(), seatIds, user.getId(), bookingExpiryMinutes);
+            if (lock.isLocked()) {
+                return createPendingBooking(show, layout, priceTable, seatIds, user);
+            }
+            unavailableSeatIds.addAll(lock.conflictingSeatIds());
         }
+        throw new SeatNotAvailableException("No " + request.seatCount() + " adjacent seats are available together");
     }
 
     @Override
     @Transactional
     public BookingResponse confirmBooking(Long bookingId, PaymentConfirmation payment) {
-        log.info("Confirming booking: {}", bookingId);
-
         Booking booking = findBooking(bookingId);
-        if (booking.getStatus() != BookingStatus.PENDING) throw new BusinessException("Booking is not in pending state");
+        rejectIfGroupMember(booking, "confirmed");
+        return confirm(booking, payment);
+    }
 
-        if (booking.isExpired()) {
-            booking.setStatus(BookingStatus.EXPIRED);
-            bookingRepository.save(booking);
-            seatLockService.releaseSeatsByUser(booking.getShow().getId(), booking.getUser().getId());
-            throw new BusinessException("Booking has expired");
-        }
+    @Override
+    @Transactional
+    public BookingResponse confirmGroupMember(Long bookingId, PaymentConfirmation payment) {
+        return confirm(findBooking(bookingId), payment);
+    }
 
-        if (payment.amount().compareTo(booking.getFinalAmount()) != 0) throw new BusinessException("Payment amount mismatch");
+    @Override
+    @Transactional
+    public BookingResponse extendBooking(Long bookingId, Long userId) {
+        log.info("Extending seat hold for booking: {}", bookingId);
 
-        booking.confirm();
-        generateTickets(booking);
+        Booking booking = findBookingForUser(bookingId, userId, "extend");
+        rejectIfGroupMember(booking, "extended");
+        if (booking.getStatus() != BookingStatus.PENDING) throw new BusinessException("Booking is not in pending state");
+        if (booking.isExpired()) throw new BusinessException("Booking has expired");
 
-        Booking confirmedBooking = bookingRepository.save(booking);
-        log.info("Booking confirmed: {}", confirmedBooking.getBookingNumber());
-        return BookingResponse.from(confirmedBooking);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime holdLimit = booking.getCreatedAt().plusMinutes(maxHoldMinutes);
+        LocalDateTime newExpiry = now.plusMinutes(bookingExpiryMinutes);
+        if (newExpiry.isAfter(holdLimit)) newExpiry = holdLimit;
+        if (!newExpiry.isAfter(booking.getExpiresAt())) throw new BusinessException("Booking hold cannot be extended any further");
+
+        List<Long> seatIds = bookedSeatIds(booking);
+        if (!seatLockService.extendSeats(booking.getShow().getId(), seatIds, userId, Duration.between(now, newExpiry))) {
+            throw new SeatNotAvailableException("Seat hold has already lapsed");
+        }
+
+        booking.setExpiresAt(newExpiry);
+        Booking extendedBooking = bookingRepository.save(booking);
+        log.info("Booking {} held until {}", extendedBooking.getBookingNumber(), newExpiry);
+        return BookingResponse.from(extendedBooking);
     }
 
     @Override
     @Transactional
     public BookingResponse cancelBooking(Long bookingId, Long userId, String reason) {
-        log.info("Cancelling booking: {}", bookingId);
-
         Booking booking = findBookingForUser(bookingId, userId, "cancel");
-        booking.cancel(reason);
-        booking.getTickets().forEach(ticket -> ticket.setStatus(TicketStatus.CANCELLED));
-
-        List<Long> seatIds = booking.getBookedSeats().stream().map(bs -> bs.getSeat().getId()).toList();
-        seatLockService.releaseSeats(booking.getShow().getId(), seatIds);
+        rejectIfGroupMember(booking, "cancelled");
+        return cancel(booking, userId, reason);
+    }
 
-        Booking cancelledBooking = bookingRepository.save(booking);
-        log.info("Booking cancelled: {}", cancelledBooking.getBookingNumber());
-        return BookingResponse.from(cancelledBooking);
+    @Override
+    @Transactional
+    public BookingResponse cancelGroupMember(Long bookingId, Long userId, String reason) {
+        return cancel(findBookingForUser(bookingId, userId, "cancel"), userId, reason);
     }
 
     @Override
@@ -138,15 +195,45 @@ public class BookingServiceImpl implements BookingService {
                 .map(BookingResponse::from).toList();
     }
 
+    @Override
+    public BookingHistoryPage getBookingHistory(Long userId, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_HISTORY_PAGE_SIZE);
+        HistoryCursor before = cursor == null || cursor.isBlank()
+                ? new HistoryCursor(HISTORY_START, Long.MAX_VALUE)
+                : decodeHistoryCursor(cursor);
+
+        // One extra row tells whether another page follows
+        List<BookingHistoryRow> rows = bookingRepository.findHistoryBefore(userId, before.createdAt(), before.id(), Limit.of(pageSize + 1));
+        List<BookingHistoryRow> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+
+        Map<Long, List<String>> seatLabelsByBooking = new HashMap<>();
+        if (!page.isEmpty()) {
+            for (Object[] row : bookedSeatRepository.findSeatLabelsByBookingIds(page.stream().map(BookingHistoryRow::id).toList())) {
+                seatLabelsByBooking.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        List<BookingSummary> bookings = page.stream()
+                .map(row -> BookingSummary.from(row, seatLabelsByBooking.getOrDefault(row.id(), List.of())))
+                .toList();
+        String nextCursor = rows.size() > pageSize ? encodeHistoryCursor(page.getLast()) : null;
+        return new BookingHistoryPage(bookings, nextCursor);
+    }
+
     @Override
     public SeatAvailabilityResponse getAvailableSeats(Long showId) {
         Show show = findShow(showId);
-        List<Seat> allSeats = seatRepository.findByScreenId(show.getScreen().getId());
-
-        Set<Long> unavailableSeatIds = new HashSet<>(seatLockService.getLockedSeats(showId));
-        unavailableSeatIds.addAll(bookedSeatRepository.findBookedSeatIdsByShowId(showId));
+        ScreenLayout layout = seatLayoutResolver.forShow(show);
+        ShowPriceTable priceTable = pricingEngine.priceTable(show);
+        return SeatAvailabilityResponse.from(showId, layout, unavailableSeatIds(showId), priceTable.asMap(), priceTable.version());
+    }
 
-        return SeatAvailabilityResponse.from(showId, allSeats, unavailableSeatIds, getPricingMap(show));
+    @Override
+    public SeatAvailabilityBitset getAvailableSeatsBitset(Long showId) {
+        Show show = findShow(showId);
+        ScreenLayout layout = seatLayoutResolver.forShow(show);
+        ShowPriceTable priceTable = pricingEngine.priceTable(show);
+        return SeatAvailabilityBitset.from(showId, layout, unavailableSeatIds(showId), priceTable.asMap(), priceTable.version());
     }
 
     @Override
@@ -157,6 +244,82 @@ public class BookingServiceImpl implements BookingService {
         return TicketResponse.from(ticket);
     }
 
+    private BookingResponse confirm(Booking booking, PaymentConfirmation payment) {
+        log.info("Confirming booking: {}", booking.getId());
+
+        if (booking.getStatus() != BookingStatus.PENDING) throw new BusinessException("Booking is not in pending state");
+
+        if (booking.isExpired()) {
+            booking.setStatus(BookingStatus.EXPIRED);
+            bookingRepository.save(booking);
+            seatLockService.releaseSeatsByUser(booking.getShow().getId(), booking.getUser().getId());
+            activeBookingMarkers.clear(booking.getShow().getId(), booking.getUser().getId());
+            throw new BusinessException("Booking has expired");
+        }
+
+        if (payment.amount().compareTo(booking.getFinalAmount()) != 0) throw new BusinessException("Payment amount mismatch");
+
+        booking.confirm();
+        generateTickets(booking);
+
+        Booking confirmedBooking = bookingRepository.save(booking);
+        publishSeatChange(booking.getShow().getId(), ChangeType.BOOKED, bookedSeatIds(booking));
+        Show show = booking.getShow();
+        notificationService.sendBookingConfirmation(booking.getUser().getEmail(), booking.getBookingNumber(),
+                show.getEvent().getTitle(), show.getShowDate().toString(), show.getStartTime().toString(),
+                show.getScreen().getVenue().getName(),
+                booking.getBookedSeats().stream().map(BookedSeat::getSeatLabel).collect(Collectors.joining(", ")));
+        activeBookingMarkers.mark(show.getId(), booking.getUser().getId(), booking.getId(),
+                Duration.between(LocalDateTime.now(), LocalDateTime.of(show.getShowDate(), show.getEndTime())));
+        log.info("Booking confirmed: {}", confirmedBooking.getBookingNumber());
+        return BookingResponse.from(confirmedBooking);
+    }
+
+    private BookingResponse cancel(Booking booking, Long userId, String reason) {
+        log.info("Cancelling booking: {}", booking.getId());
+
+        BookingStatus previousStatus = booking.getStatus();
+        booking.cancel(reason);
+        booking.getTickets().forEach(ticket -> ticket.setStatus(TicketStatus.CANCELLED));
+
+        List<Long> seatIds = bookedSeatIds(booking);
+        seatLockService.releaseSeats(booking.getShow().getId(), seatIds);
+        activeBookingMarkers.clear(booking.getShow().getId(), userId);
+
+        Booking cancelledBooking = bookingRepository.save(booking);
+        if (previousStatus == BookingStatus.CONFIRMED) {
+            publishSeatChange(booking.getShow().getId(), ChangeType.CANCELLED, seatIds);
+            notificationService.sendBookingCancellation(booking.getUser().getEmail(), booking.getBookingNumber(),
+                    booking.getShow().getEvent().getTitle());
+        } else if (previousStatus == BookingStatus.PENDING) {
+            publishSeatChange(booking.getShow().getId(), ChangeType.RELEASED, seatIds);
+        }
+        log.info("Booking cancelled: {}", cancelledBooking.getBookingNumber());
+        return BookingResponse.from(cancelledBooking);
+    }
+
+    // Seats must already be locked for the user; the locks are released if the booking cannot be saved
+    private BookingResponse createPendingBooking(Show show, ScreenLayout layout, ShowPriceTable priceTable, List<Long> seatIds, User user) {
+        try {
+            Booking savedBooking = transactionTemplate.execute(status -> {
+                Booking booking = pendingBookingAssembler.assemble(show, layout, priceTable, seatIds, user);
+                Booking saved = bookingRepository.save(booking);
+                publishSeatChange(show.getId(), ChangeType.HELD, seatIds);
+                return saved;
+            });
+            activeBookingMarkers.mark(show.getId(), user.getId(), savedBooking.getId(), Duration.ofMinutes(maxHoldMinutes));
+            log.info("Booking initiated: {}", savedBooking.getBookingNumber());
+            return BookingResponse.from(savedBooking, layout);
+        } catch (Exception e) {
+            seatLockService.releaseSeatsByUser(show.getId(), user.getId());
+            throw e;
+        }
+    }
+
+    private Show findShowForBooking(Long showId) {
+        return showRepository.findByIdForBooking(showId).orElseThrow(() -> new ResourceNotFoundException("Show not found: " + showId));
+    }
+
     private Show findShow(Long showId) {
         return showRepository.findById(showId).orElseThrow(() -> new ResourceNotFoundException("Show not found: " + showId));
     }
@@ -171,39 +334,74 @@ public class BookingServiceImpl implements BookingService {
         return booking;
     }
 
-    private void validateBookingRequest(Show show, BookingRequest request, User user) {
+    private Set<Long> unavailableSeatIds(Long showId) {
+        Set<Long> unavailableSeatIds = new HashSet<>(seatLockService.getLockedSeats(showId));
+        unavailableSeatIds.addAll(bookedSeatRepository.findBookedSeatIdsByShowId(showId));
+        return unavailableSeatIds;
+    }
+
+    private List<Long> bookedSeatIds(Booking booking) {
+        return booking.getBookedSeats().stream().map(bs -> bs.getSeat().getId()).toList();
+    }
+
+    private void publishSeatChange(Long showId, ChangeType type, List<Long> seatIds) {
+        eventPublisher.publishEvent(SeatAvailabilityChange.of(showId, type, seatIds));
+    }
+
+    // Members of a group or cart only change together, or the group's payment and expiry drift from them
+    private void rejectIfGroupMember(Booking booking, String action) {
+        if (booking.getGroup() != null) {
+            throw new BusinessException("This booking is part of " + booking.getGroup().getGroupNumber()
+                    + " and can only be " + action + " through its group booking or cart");
+        }
+    }
+
+    private void rejectIfMarkedActive(Long showId, User user) {
+        if (activeBookingMarkers.isMarked(showId, user.getId())) throw new BusinessException("You already have a booking for this show");
+    }
+
+    private void validateBookingRequest(Show show, ScreenLayout layout, BookingRequest request, User user) {
+        if (new HashSet<>(request.seatIds()).size() != request.seatIds().size()) throw new BusinessException("Each seat can only be selected once");
+        for (Long seatId : request.seatIds()) {
+            int ordinal = layout.ordinalOf(seatId);
+            if (ordinal < 0 || !layout.isUsable(ordinal)) throw new BusinessException("Seat " + seatId + " cannot be booked for this show");
+        }
+        validateBookingRequest(show, request.seatIds().size(), user);
+    }
+
+    private void validateBookingRequest(Show show, int seatCount, User user) {
         if (!show.isBookable()) throw new BusinessException("Show is not available for booking");
-        if (request.seatIds().size() > maxSeatsPerBooking) throw new BusinessException("Maximum " + maxSeatsPerBooking + " seats allowed per booking");
-        if (bookingRepository.existsByUserAndShowAndStatusIn(user, show, List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED))) {
+        if (seatCount > maxSeatsPerBooking) throw new BusinessException("Maximum " + maxSeatsPerBooking + " seats allowed per booking");
+        if (bookingRepository.existsByUserIdAndShowIdAndStatusIn(user.getId(), show.getId(), ACTIVE_STATUSES)) {
             throw new BusinessException("You already have a booking for this show");
         }
     }
 
-    private BookedSeat createBookedSeat(Show show, Seat seat, Map<String, BigDecimal> seatTypePrices) {
-        return BookedSeat.builder()
-                .show(show).seat(seat).seatLabel(seat.getSeatLabel())
-                .price(seatTypePrices.getOrDefault(seat.getSeatType().name(), BigDecimal.ZERO))
-                .build();
+    // Cursor: base64url of "<createdAt>|<id>" of the last booking on the page
+    private String encodeHistoryCursor(BookingHistoryRow row) {
+        String position = row.createdAt() + "|" + row.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
     }
 
-    private Map<String, BigDecimal> getPricingMap(Show show) {
-        return show.getPricing().stream().collect(Collectors.toMap(sp -> sp.getSeatType().name(), sp -> sp.getPrice()));
+    private HistoryCursor decodeHistoryCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length == 2) {
+                return new HistoryCursor(LocalDateTime.parse(position[0]), Long.parseLong(position[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.debug("Rejected booking history cursor {}: {}", cursor, e.getMessage());
+        }
+        throw new BusinessException("Invalid cursor");
     }
 
-    private PricingDetail calculatePricing(List<Seat> seats, Map<String, BigDecimal> seatTypePrices) {
-        BigDecimal ticketAmount = seats.stream()
-                .map(seat -> seatTypePrices.getOrDefault(seat.getSeatType().name(), BigDecimal.ZERO))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal convenienceFee = ticketAmount.multiply(convenienceFeePercent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        BigDecimal subtotal = ticketAmount.add(convenienceFee);
-        BigDecimal taxAmount = subtotal.multiply(taxPercent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        return new PricingDetail(ticketAmount, convenienceFee, taxAmount, BigDecimal.ZERO, subtotal.add(taxAmount));
+    private record HistoryCursor(LocalDateTime createdAt, long id) {
     }
 
     private void generateTickets(Booking booking) {
         booking.getBookedSeats().forEach(seat -> booking.getTickets().add(Ticket.builder()
                 .booking(booking).seatLabel(seat.getSeatLabel())
-                .ticketNumber("TKT" + System.currentTimeMillis() + String.format("%06d", (int) (Math.random() * 1000000)))
+                .ticketNumber(idGenerator.next("TKT"))
                 .qrCode(Base64.getEncoder().encodeToString((booking.getBookingNumber() + "|" + seat.getSeatLabel() + "|" + booking.getShow().getShowDate() + "|" + booking.getShow().getStartTime()).getBytes()))
                 .status(TicketStatus.VALID).build()));
     }
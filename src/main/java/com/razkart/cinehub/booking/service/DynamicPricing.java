@@ -0,0 +1,182 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.show.dto.ShowOccupancy;
+import com.razkart.cinehub.show.repository.ShowRepository;
+import com.razkart.cinehub.show.service.SeatAvailabilityBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Demand-based price multipliers per show ({@code cinehub.pricing.dynamic.enabled}).
+ * <p>
+ * A show's multiplier follows its occupancy and time to start: surge tiers raise prices as it fills,
+ * and a slow show close to start is discounted. It is re-evaluated only when the occupancy tracker
+ * reports new counts, and Redis is only called when the target tier differs from this node's copy
+ * of the current one; the periodic occupancy reconcile catches up on anything missed. Every node
+ * copies the multipliers into memory on a short tick, so pricing a seat map or a booking is a map
+ * lookup. When a show's multiplier changes, the previous one stays honoured for
+ * {@code version-grace-seconds}, so users can still book at the prices they were shown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DynamicPricing {
+
+    /** Multipliers are in basis points; this one leaves prices as configured. */
+    public static final int BASE_MULTIPLIER = 10_000;
+
+    private static final String MULTIPLIERS_KEY = "cinehub:pricing:multipliers";
+
+    // KEYS[1] = multipliers hash; ARGV[1] = showId, ARGV[2] = new multiplier,
+    // ARGV[3] = epoch millis until which the replaced multiplier is honoured, ARGV[4] = base multiplier.
+    // A field holds "current|previous|previousHonouredUntil"; returns 1 if the multiplier changed.
+    // A show seen for the first time gets a field even at the base multiplier, so that deleting it
+    // in forget() tells every node to drop what it cached about the show.
+    private static final RedisScript<Long> CHANGE_SCRIPT = RedisScript.of("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            local current = value and string.match(value, '^(%d+)') or ARGV[4]
+            if current == ARGV[2] then
+                if not value then
+                    redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[2] .. '|0')
+                end
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. current .. '|' .. ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShowRepository showRepository;
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+
+    @Value("${cinehub.pricing.dynamic.enabled:false}") private boolean enabled;
+    @Value("${cinehub.pricing.dynamic.surge-tiers:}") private String surgeTiers;
+    @Value("${cinehub.pricing.dynamic.slow-show-hours:3}") private int slowShowHours;
+    @Value("${cinehub.pricing.dynamic.slow-show-max-occupancy-percent:30}") private int slowShowMaxOccupancyPercent;
+    @Value("${cinehub.pricing.dynamic.slow-show-price-percent:100}") private int slowShowPricePercent;
+    @Value("${cinehub.pricing.dynamic.version-grace-seconds:300}") private long versionGraceSeconds;
+
+    private final Map<Long, LocalDateTime> startTimes = new ConcurrentHashMap<>();
+    private volatile Map<Long, Multiplier> multipliers = Map.of();
+    private int[][] tiers = new int[0][];
+
+    private record Multiplier(int current, int previous, long previousHonouredUntil) {
+    }
+
+    @PostConstruct
+    void parseTiers() {
+        // "occupancyPercent:pricePercent,...", e.g. "60:110,80:125"; the highest tier reached applies
+        List<int[]> parsed = new ArrayList<>();
+        for (String tier : surgeTiers.split(",")) {
+            if (tier.isBlank()) {
+                continue;
+            }
+            String[] parts = tier.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalStateException("Invalid cinehub.pricing.dynamic.surge-tiers entry: " + tier);
+            }
+            parsed.add(new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()) * 100});
+        }
+        parsed.sort(Comparator.comparingInt((int[] tier) -> tier[0]).reversed());
+        tiers = parsed.toArray(new int[0][]);
+    }
+
+    public int currentMultiplier(Long showId) {
+        Multiplier multiplier = multipliers.get(showId);
+        return !enabled || multiplier == null ? BASE_MULTIPLIER : multiplier.current();
+    }
+
+    /**
+     * Whether prices at this multiplier may still be charged: it is the current one, or the one it
+     * replaced within the grace period.
+     */
+    public boolean isHonoured(Long showId, int multiplier) {
+        if (multiplier == currentMultiplier(showId)) {
+            return true;
+        }
+        Multiplier state = multipliers.get(showId);
+        return enabled && state != null && multiplier == state.previous()
+                && System.currentTimeMillis() <= state.previousHonouredUntil();
+    }
+
+    /**
+     * Move the show to the tier its occupancy now calls for, if that differs from the current one.
+     */
+    public void reprice(ShowOccupancy occupancy) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime startsAt = startTimes.computeIfAbsent(occupancy.showId(), showId -> showRepository.findById(showId)
+                .map(show -> LocalDateTime.of(show.getShowDate(), show.getStartTime()))
+                .orElse(null));
+        if (startsAt == null) {
+            return;
+        }
+
+        int target = multiplierFor(occupancy, startsAt);
+        Multiplier known = multipliers.get(occupancy.showId());
+        if (known != null && known.current() == target) {
+            return;
+        }
+        long honourUntil = System.currentTimeMillis() + Duration.ofSeconds(versionGraceSeconds).toMillis();
+        Long changed = redisTemplate.execute(CHANGE_SCRIPT, List.of(MULTIPLIERS_KEY),
+                occupancy.showId().toString(), String.valueOf(target), String.valueOf(honourUntil), String.valueOf(BASE_MULTIPLIER));
+        if (changed != null && changed == 1L) {
+            log.info("Show {} now priced at {}% ({} of {} seats taken)", occupancy.showId(), target / 100,
+                    occupancy.held() + occupancy.booked(), occupancy.capacity());
+            // Cached seat maps carry the prices, so they have to be rebuilt
+            seatAvailabilityBroadcaster.advanceVersion(occupancy.showId());
+            refresh();
+        }
+    }
+
+    public void forget(Long showId) {
+        startTimes.remove(showId);
+        if (enabled) {
+            redisTemplate.opsForHash().delete(MULTIPLIERS_KEY, showId.toString());
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cinehub.pricing.dynamic.refresh-ms:1000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, Multiplier> refreshed = new HashMap<>();
+        redisTemplate.opsForHash().entries(MULTIPLIERS_KEY).forEach((showId, value) -> {
+            String[] parts = value.toString().split("\\|");
+            refreshed.put(Long.valueOf(showId.toString()),
+                    new Multiplier(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2])));
+        });
+        // A show whose field was deleted was updated or removed through some node, so its start time may have moved
+        multipliers.keySet().stream().filter(showId -> !refreshed.containsKey(showId)).forEach(startTimes::remove);
+        multipliers = refreshed;
+    }
+
+    int multiplierFor(ShowOccupancy occupancy, LocalDateTime startsAt) {
+        int occupancyPercent = occupancy.capacity() == 0 ? 0
+                : (int) ((occupancy.held() + occupancy.booked()) * 100L / occupancy.capacity());
+        if (occupancyPercent <= slowShowMaxOccupancyPercent
+                && LocalDateTime.now().plusHours(slowShowHours).isAfter(startsAt)) {
+            return slowShowPricePercent * 100;
+        }
+        for (int[] tier : tiers) {
+            if (occupancyPercent >= tier[0]) {
+                return tier[1];
+            }
+        }
+        return BASE_MULTIPLIER;
+    }
+}
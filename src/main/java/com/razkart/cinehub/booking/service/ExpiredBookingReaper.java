@@ -0,0 +1,126 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.repository.BookedSeatRepository;
+import com.razkart.cinehub.booking.repository.BookingGroupRepository;
+import com.razkart.cinehub.booking.repository.BookingRepository;
+import com.razkart.cinehub.booking.repository.ExpiredBookingRow;
+import com.razkart.cinehub.common.job.ClusterJobCoordinator;
+import com.razkart.cinehub.common.job.JobPartition;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange.ChangeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Expires pending bookings whose hold has run out and gives their seats back.
+ * Every node runs the reaper over its own partition of shows.
+ * <p>
+ * Each batch runs in its own transaction. It locks the next page of expired bookings
+ * by keyset on (expires_at, id), skipping rows another node has already locked, then
+ * marks them EXPIRED and deletes their booked seats with bulk statements. Booking groups
+ * and carts whose hold has lapsed are marked EXPIRED in the same transaction. After commit
+ * the seat locks are released in one pipelined round trip and a RELEASED change is
+ * published per show.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredBookingReaper {
+
+    private final BookingRepository bookingRepository;
+    private final BookingGroupRepository bookingGroupRepository;
+    private final BookedSeatRepository bookedSeatRepository;
+    private final SeatLockService seatLockService;
+    private final ActiveBookingMarkers activeBookingMarkers;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterJobCoordinator clusterJobCoordinator;
+
+    @Value("${cinehub.booking.reaper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${cinehub.booking.reaper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${cinehub.booking.reaper.interval-ms:15000}")
+    public void reapExpiredBookings() {
+        // Each node reaps the bookings of its own share of shows
+        JobPartition partition = clusterJobCoordinator.currentPartition();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime afterExpiresAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+        long afterId = 0L;
+        int reaped = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            LocalDateTime cursorExpiresAt = afterExpiresAt;
+            long cursorId = afterId;
+            ReapedBatch reapedBatch = transactionTemplate.execute(status -> reapBatch(partition, now, cursorExpiresAt, cursorId));
+            if (reapedBatch == null) {
+                break;
+            }
+
+            try {
+                seatLockService.releaseHolds(reapedBatch.holds());
+            } catch (RuntimeException e) {
+                // The bookings are already expired; leftover locks lapse with their TTL
+                log.warn("Failed to release seat locks of {} expired bookings: {}", reapedBatch.bookingCount(), e.getMessage());
+            }
+            activeBookingMarkers.clear(reapedBatch.holds());
+            publishReleasedSeats(reapedBatch.holds());
+            reaped += reapedBatch.bookingCount();
+
+            if (reapedBatch.bookingCount() < batchSize) {
+                break;
+            }
+            afterExpiresAt = reapedBatch.lastExpiresAt();
+            afterId = reapedBatch.lastId();
+        }
+
+        if (reaped > 0) {
+            log.info("Expired {} pending bookings", reaped);
+        }
+    }
+
+    private ReapedBatch reapBatch(JobPartition partition, LocalDateTime now, LocalDateTime afterExpiresAt, long afterId) {
+        List<ExpiredBookingRow> rows = bookingRepository.lockExpiredBookingsAfter(now, afterExpiresAt, afterId,
+                partition.index(), partition.count(), batchSize);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        List<Long> bookingIds = rows.stream().map(ExpiredBookingRow::getId).toList();
+        Map<Long, List<Long>> seatIdsByBooking = new HashMap<>();
+        for (Object[] row : bookedSeatRepository.findSeatIdsByBookingIds(bookingIds)) {
+            seatIdsByBooking.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        bookingRepository.markExpired(bookingIds, now);
+        bookedSeatRepository.deleteByBookingIds(bookingIds);
+        // Groups span shows and so partitions; the update is guarded by status, so any node may apply it
+        bookingGroupRepository.markExpired(now);
+
+        List<SeatHold> holds = rows.stream()
+                .map(row -> new SeatHold(row.getShowId(), row.getUserId(), seatIdsByBooking.getOrDefault(row.getId(), List.of())))
+                .filter(hold -> !hold.seatIds().isEmpty())
+                .toList();
+        ExpiredBookingRow last = rows.getLast();
+        return new ReapedBatch(rows.size(), last.getExpiresAt(), last.getId(), holds);
+    }
+
+    private void publishReleasedSeats(List<SeatHold> holds) {
+        Map<Long, List<Long>> seatIdsByShow = new HashMap<>();
+        holds.forEach(hold -> seatIdsByShow.computeIfAbsent(hold.showId(), id -> new ArrayList<>()).addAll(hold.seatIds()));
+        seatIdsByShow.forEach((showId, seatIds) ->
+                eventPublisher.publishEvent(SeatAvailabilityChange.of(showId, ChangeType.RELEASED, seatIds)));
+    }
+
+    private record ReapedBatch(int bookingCount, LocalDateTime lastExpiresAt, long lastId, List<SeatHold> holds) {}
+}
@@ -0,0 +1,91 @@
+package com.razkart.cinehub.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * Hashed timer wheel that clears expired seat holds from in-memory hold arrays.
+ * <p>
+ * A hold is cleared with a compare-and-set against the exact value it was scheduled with,
+ * so a seat that was released and re-locked in the meantime is never touched.
+ * Readers still check expiry themselves; the wheel only reclaims slots.
+ * <p>
+ * Once a timeout has fired, expired or not, the wheel reports its show to the owner, so the
+ * owner can tell when a show has no pending timeouts, and therefore no live holds, left.
+ */
+@Slf4j
+final class HoldTimerWheel {
+
+    private record Timeout(long showId, AtomicLongArray holds, int ordinal, long hold, long deadlineTick) {}
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final ScheduledExecutorService ticker;
+    private final LongConsumer onTimeoutFired;
+    private final long startMillis = System.currentTimeMillis();
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HoldTimerWheel(Duration tick, int wheelSize, LongConsumer onTimeoutFired) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = wheelSize - 1;
+        this.onTimeoutFired = onTimeoutFired;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start() {
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    void schedule(long showId, AtomicLongArray holds, int ordinal, long hold, long expiresAtMillis) {
+        long deadlineTick = Math.max(currentTick + 1, (expiresAtMillis - startMillis + tickMillis - 1) / tickMillis);
+        buckets[(int) (deadlineTick & mask)].add(new Timeout(showId, holds, ordinal, hold, deadlineTick));
+    }
+
+    private void advance() {
+        long tick = currentTick + 1;
+        currentTick = tick;
+        int expired = 0;
+
+        Iterator<Timeout> timeouts = buckets[(int) (tick & mask)].iterator();
+        while (timeouts.hasNext()) {
+            Timeout timeout = timeouts.next();
+            if (timeout.deadlineTick() <= tick) {
+                timeouts.remove();
+                if (timeout.holds().compareAndSet(timeout.ordinal(), timeout.hold(), 0L)) {
+                    expired++;
+                }
+                onTimeoutFired.accept(timeout.showId());
+            }
+        }
+
+        if (expired > 0) {
+            log.debug("Expired {} seat holds", expired);
+        }
+    }
+}
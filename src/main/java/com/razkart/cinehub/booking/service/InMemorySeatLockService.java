@@ -0,0 +1,268 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process, lock-free seat locking for single-node deployments, tests and benchmarks.
+ * <p>
+ * Each show has an {@link AtomicLongArray} indexed by seat ordinal. A slot is {@code 0} when
+ * free, otherwise it packs the holding user ID (high 31 bits) and the hold expiry in seconds
+ * since service start (low 32 bits). Seats are claimed with compare-and-set, and a
+ * {@link HoldTimerWheel} clears holds once they expire. Semantics match {@link SeatLockServiceImpl}.
+ * <p>
+ * Every hold written has a timeout pending on the wheel, so a show is dropped once its last
+ * pending timeout has fired. User IDs must fit in 31 bits; larger IDs are rejected.
+ */
+@Service
+@ConditionalOnProperty(name = "cinehub.seat-lock.backend", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemorySeatLockService implements SeatLockService {
+
+    private static final int EXPIRY_BITS = 32;
+    private static final long EXPIRY_MASK = (1L << EXPIRY_BITS) - 1;
+    private static final long MAX_USER_ID = (1L << (Long.SIZE - 1 - EXPIRY_BITS)) - 1;
+
+    private final SeatLayoutResolver seatLayoutResolver;
+
+    private final Map<Long, ShowHolds> holdsByShow = new ConcurrentHashMap<>();
+    private final HoldTimerWheel timerWheel = new HoldTimerWheel(Duration.ofSeconds(1), 1024, this::timeoutFired);
+    private final long epochMillis = System.currentTimeMillis();
+
+    @PostConstruct
+    public void start() {
+        timerWheel.start();
+        log.info("In-memory seat locking enabled");
+    }
+
+    @PreDestroy
+    public void stop() {
+        timerWheel.stop();
+    }
+
+    @Override
+    public SeatLockResult lockSeats(Long showId, List<Long> seatIds, Long userId, int expiryMinutes) {
+        List<Long> distinctSeatIds = seatIds.stream().distinct().toList();
+        if (distinctSeatIds.isEmpty()) {
+            return SeatLockResult.locked(seatIds);
+        }
+
+        ScreenLayout layout = seatLayoutResolver.forShow(showId);
+        int[] ordinals = toOrdinals(layout, distinctSeatIds);
+        long now = System.currentTimeMillis();
+        long expiresAt = now + Duration.ofMinutes(expiryMinutes).toMillis();
+        long hold = pack(userId, expiresAt);
+        AtomicLongArray holds = retain(showId, layout, ordinals.length);
+
+        List<Long> conflicts = new ArrayList<>();
+        for (int i = 0; i < ordinals.length; i++) {
+            if (isHeld(holds.get(ordinals[i]), now)) {
+                conflicts.add(distinctSeatIds.get(i));
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            log.debug("Seats {} already held in show {}", conflicts, showId);
+            release(showId, ordinals.length);
+            return SeatLockResult.conflict(conflicts);
+        }
+
+        for (int i = 0; i < ordinals.length; i++) {
+            long current = holds.get(ordinals[i]);
+            if (isHeld(current, now) || !holds.compareAndSet(ordinals[i], current, hold)) {
+                // Lost a race for this seat: undo the seats claimed so far
+                for (int j = 0; j < i; j++) {
+                    holds.compareAndSet(ordinals[j], hold, 0L);
+                }
+                release(showId, ordinals.length);
+                return SeatLockResult.conflict(List.of(distinctSeatIds.get(i)));
+            }
+        }
+
+        for (int ordinal : ordinals) {
+            timerWheel.schedule(showId, holds, ordinal, hold, expiresAt);
+        }
+        log.debug("Locked seats {} for user {} in show {}", seatIds, userId, showId);
+        return SeatLockResult.locked(seatIds);
+    }
+
+    @Override
+    public boolean extendSeats(Long showId, List<Long> seatIds, Long userId, Duration holdFor) {
+        if (!holdsByShow.containsKey(showId)) {
+            return false;
+        }
+
+        int[] ordinals = toOrdinals(seatLayoutResolver.forShow(showId), seatIds.stream().distinct().toList());
+        long now = System.currentTimeMillis();
+        long expiresAt = now + holdFor.toMillis();
+        long extendedHold = pack(userId, expiresAt);
+        ShowHolds show = holdsByShow.computeIfPresent(showId, (id, current) -> current.retain(ordinals.length));
+        if (show == null) {
+            return false;
+        }
+
+        AtomicLongArray holds = show.holds;
+        long[] previous = new long[ordinals.length];
+
+        for (int i = 0; i < ordinals.length; i++) {
+            previous[i] = holds.get(ordinals[i]);
+            if (!isHeld(previous[i], now) || userOf(previous[i]) != userId
+                    || !holds.compareAndSet(ordinals[i], previous[i], extendedHold)) {
+                for (int j = 0; j < i; j++) {
+                    holds.compareAndSet(ordinals[j], extendedHold, previous[j]);
+                }
+                release(showId, ordinals.length);
+                return false;
+            }
+        }
+
+        for (int ordinal : ordinals) {
+            timerWheel.schedule(showId, holds, ordinal, extendedHold, expiresAt);
+        }
+        log.debug("Extended seats {} for user {} in show {}", seatIds, userId, showId);
+        return true;
+    }
+
+    @Override
+    public void releaseSeats(Long showId, List<Long> seatIds) {
+        AtomicLongArray holds = holdsOf(showId);
+        if (holds != null) {
+            ScreenLayout layout = seatLayoutResolver.forShow(showId);
+            for (Long seatId : seatIds) {
+                int ordinal = layout.ordinalOf(seatId);
+                if (ordinal >= 0) {
+                    holds.set(ordinal, 0L);
+                }
+            }
+        }
+        log.info("Released {} seats for show {}", seatIds.size(), showId);
+    }
+
+    @Override
+    public void releaseSeatsByUser(Long showId, Long userId) {
+        AtomicLongArray holds = holdsOf(showId);
+        if (holds != null) {
+            for (int ordinal = 0; ordinal < holds.length(); ordinal++) {
+                long current = holds.get(ordinal);
+                if (current != 0 && userOf(current) == userId) {
+                    holds.compareAndSet(ordinal, current, 0L);
+                }
+            }
+        }
+        log.info("Released all seats for user {} in show {}", userId, showId);
+    }
+
+    @Override
+    public Set<Long> getLockedSeats(Long showId) {
+        AtomicLongArray holds = holdsOf(showId);
+        if (holds == null) {
+            return Collections.emptySet();
+        }
+
+        ScreenLayout layout = seatLayoutResolver.forShow(showId);
+        long now = System.currentTimeMillis();
+        Set<Long> lockedSeats = new HashSet<>();
+        for (int ordinal = 0; ordinal < holds.length(); ordinal++) {
+            if (isHeld(holds.get(ordinal), now)) {
+                lockedSeats.add(layout.seatIdAt(ordinal));
+            }
+        }
+        return lockedSeats;
+    }
+
+    @Override
+    public boolean isSeatAvailable(Long showId, Long seatId) {
+        int ordinal = seatLayoutResolver.forShow(showId).ordinalOf(seatId);
+        if (ordinal < 0) {
+            return false;
+        }
+        AtomicLongArray holds = holdsOf(showId);
+        return holds == null || !isHeld(holds.get(ordinal), System.currentTimeMillis());
+    }
+
+    private AtomicLongArray holdsOf(Long showId) {
+        ShowHolds show = holdsByShow.get(showId);
+        return show == null ? null : show.holds;
+    }
+
+    // Reserves one pending timeout per seat about to be held, so the show cannot be dropped meanwhile
+    private AtomicLongArray retain(Long showId, ScreenLayout layout, int timeouts) {
+        return holdsByShow.compute(showId, (id, show) ->
+                (show == null ? new ShowHolds(layout.size()) : show).retain(timeouts)).holds;
+    }
+
+    // Returns reserved timeouts that were never scheduled, dropping the show if none are left
+    private void release(Long showId, int timeouts) {
+        holdsByShow.computeIfPresent(showId, (id, show) -> show.release(timeouts));
+    }
+
+    private void timeoutFired(long showId) {
+        release(showId, 1);
+    }
+
+    boolean isTracked(Long showId) {
+        return holdsByShow.containsKey(showId);
+    }
+
+    private int[] toOrdinals(ScreenLayout layout, List<Long> seatIds) {
+        int[] ordinals = new int[seatIds.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = layout.ordinalOf(seatIds.get(i));
+            if (ordinals[i] < 0) {
+                throw new BusinessException("Seat " + seatIds.get(i) + " does not belong to this show's screen");
+            }
+        }
+        return ordinals;
+    }
+
+    private long pack(long userId, long expiresAtMillis) {
+        if (userId <= 0 || userId > MAX_USER_ID) {
+            throw new BusinessException("User ID out of range for in-memory seat locks: " + userId);
+        }
+        long expirySeconds = (expiresAtMillis - epochMillis + 999) / 1000;
+        return (userId << EXPIRY_BITS) | (expirySeconds & EXPIRY_MASK);
+    }
+
+    private long userOf(long hold) {
+        return hold >>> EXPIRY_BITS;
+    }
+
+    private boolean isHeld(long hold, long nowMillis) {
+        return hold != 0 && epochMillis + (hold & EXPIRY_MASK) * 1000 > nowMillis;
+    }
+
+    /**
+     * Hold slots of a show and the number of timeouts pending against them. The count is only
+     * read and written inside {@code holdsByShow} compute calls, which serialize per show.
+     */
+    private static final class ShowHolds {
+
+        private final AtomicLongArray holds;
+        private int pendingTimeouts;
+
+        private ShowHolds(int seats) {
+            this.holds = new AtomicLongArray(seats);
+        }
+
+        private ShowHolds retain(int timeouts) {
+            pendingTimeouts += timeouts;
+            return this;
+        }
+
+        private ShowHolds release(int timeouts) {
+            pendingTimeouts -= timeouts;
+            return pendingTimeouts > 0 ? this : null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.PricingDetail;
+import com.razkart.cinehub.booking.entity.BookedSeat;
+import com.razkart.cinehub.booking.entity.Booking;
+import com.razkart.cinehub.common.util.IdGenerator;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.venue.repository.SeatRepository;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Builds unsaved pending bookings for seats that are already held, pricing each seat from the show's
+ * seat-type prices through {@link PricingEngine}. Shared by the direct booking flow and {@link BookingPipeline}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingBookingAssembler {
+
+    private final SeatRepository seatRepository;
+    private final IdGenerator idGenerator;
+    private final PricingEngine pricingEngine;
+
+    @Value("${cinehub.booking.expiry-minutes:10}") private int bookingExpiryMinutes;
+
+    /**
+     * Build a pending booking priced from the given table; seat entities are attached as references,
+     * so call this inside the transaction that saves the booking.
+     */
+    public Booking assemble(Show show, ScreenLayout layout, ShowPriceTable priceTable, List<Long> seatIds, User user) {
+        long[] seatPaise = new long[seatIds.size()];
+        long ticketPaise = 0;
+        for (int i = 0; i < seatPaise.length; i++) {
+            seatPaise[i] = priceTable.pricePaise(layout.seatTypeAt(layout.ordinalOf(seatIds.get(i))));
+            ticketPaise += seatPaise[i];
+        }
+        PricingDetail pricing = pricingEngine.quote(ticketPaise);
+
+        Booking booking = Booking.builder()
+                .bookingNumber(idGenerator.next("CH"))
+                .user(user).show(show)
+                .totalAmount(pricing.ticketAmount()).convenienceFee(pricing.convenienceFee())
+                .taxAmount(pricing.taxAmount()).finalAmount(pricing.finalAmount())
+                .expiresAt(LocalDateTime.now().plusMinutes(bookingExpiryMinutes))
+                .build();
+        for (int i = 0; i < seatIds.size(); i++) {
+            booking.addSeat(createBookedSeat(show, layout, seatIds.get(i), ShowPriceTable.toRupees(seatPaise[i])));
+        }
+        return booking;
+    }
+
+    private BookedSeat createBookedSeat(Show show, ScreenLayout layout, Long seatId, BigDecimal price) {
+        return BookedSeat.builder()
+                .show(show).seat(seatRepository.getReferenceById(seatId))
+                .seatLabel(layout.seatLabelAt(layout.ordinalOf(seatId))).price(price)
+                .build();
+    }
+}
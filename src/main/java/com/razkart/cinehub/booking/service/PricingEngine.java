@@ -0,0 +1,102 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.PricingDetail;
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.show.entity.Show;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prices bookings in integer paise.
+ * <p>
+ * Each show's pricing rows are compiled once into a {@link ShowPriceTable} and cached per node. A
+ * cached table is only used while the show's pricing revision matches the one it was compiled from,
+ * so a pricing change made through any node is picked up as soon as the show is read again, and it
+ * is only rescaled when the show's {@link DynamicPricing} multiplier moves. Fees and tax are rounded
+ * half-up to the paisa, exactly as the previous {@code BigDecimal} arithmetic did.
+ */
+@Component
+public class PricingEngine {
+
+    // Percentages are held in millionths of the amount (18.0% = 180_000), which is exact to 4 decimals
+    private static final long PERCENT_SCALE = 1_000_000L;
+
+    private final long convenienceFeeRate;
+    private final long taxRate;
+    private final DynamicPricing dynamicPricing;
+    private final Map<Long, ShowPriceTable> priceTables = new ConcurrentHashMap<>();
+
+    public PricingEngine(@Value("${cinehub.booking.convenience-fee-percent:5.0}") BigDecimal convenienceFeePercent,
+                         @Value("${cinehub.booking.tax-percent:18.0}") BigDecimal taxPercent,
+                         DynamicPricing dynamicPricing) {
+        this.convenienceFeeRate = toRate(convenienceFeePercent, "convenience-fee-percent");
+        this.taxRate = toRate(taxPercent, "tax-percent");
+        this.dynamicPricing = dynamicPricing;
+    }
+
+    /**
+     * Current price table of a loaded show; touches the lazy pricing collection only when recompiling.
+     */
+    public ShowPriceTable priceTable(Show show) {
+        int multiplier = dynamicPricing.currentMultiplier(show.getId());
+        ShowPriceTable cached = priceTables.get(show.getId());
+        if (cached != null && cached.isCompiledFrom(show.getPricingRevision())) {
+            if (cached.multiplier() == multiplier) {
+                return cached;
+            }
+        } else {
+            cached = ShowPriceTable.compile(show.getPricing(), show.getPricingRevision());
+        }
+        ShowPriceTable current = cached.withMultiplier(multiplier);
+        priceTables.put(show.getId(), current);
+        return current;
+    }
+
+    /**
+     * Price table with the given version, as shown to the user; the current one if no version is given.
+     * An older version is accepted while {@link DynamicPricing} still honours its multiplier.
+     */
+    public ShowPriceTable priceTable(Show show, String version) {
+        ShowPriceTable current = priceTable(show);
+        if (version == null || version.isBlank() || version.equals(current.version())) {
+            return current;
+        }
+        Integer multiplier = current.multiplierOf(version);
+        if (multiplier == null || !dynamicPricing.isHonoured(show.getId(), multiplier)) {
+            throw new BusinessException("Prices for this show have changed; reload the seat map to see the current prices");
+        }
+        return current.withMultiplier(multiplier);
+    }
+
+    /**
+     * Fees, tax and total for a ticket amount in paise.
+     */
+    public PricingDetail quote(long ticketPaise) {
+        long convenienceFee = percentOf(ticketPaise, convenienceFeeRate);
+        long subtotal = ticketPaise + convenienceFee;
+        long tax = percentOf(subtotal, taxRate);
+        return new PricingDetail(ShowPriceTable.toRupees(ticketPaise), ShowPriceTable.toRupees(convenienceFee),
+                ShowPriceTable.toRupees(tax), BigDecimal.ZERO, ShowPriceTable.toRupees(subtotal + tax));
+    }
+
+    public void evict(Long showId) {
+        priceTables.remove(showId);
+    }
+
+    // Half-up rounding to the paisa; amounts are never negative
+    private static long percentOf(long paise, long rate) {
+        return (Math.multiplyExact(paise, rate) + PERCENT_SCALE / 2) / PERCENT_SCALE;
+    }
+
+    private static long toRate(BigDecimal percent, String property) {
+        try {
+            return percent.movePointRight(4).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException("cinehub.booking." + property + " allows at most 4 decimal places: " + percent, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.razkart.cinehub.booking.service;
+
+import java.util.List;
+
+/**
+ * Seats a user holds in a show.
+ */
+public record SeatHold(Long showId, Long userId, List<Long> seatIds) {}
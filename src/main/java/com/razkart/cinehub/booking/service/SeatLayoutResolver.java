@@ -0,0 +1,33 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.common.exception.ResourceNotFoundException;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.show.repository.ShowRepository;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import com.razkart.cinehub.venue.service.ScreenLayoutCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the seat layout of a show's screen.
+ * <p>
+ * A show can be moved to another screen, so the show-to-screen mapping is never cached:
+ * it is taken from a loaded show where the caller has one and read from the database otherwise.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatLayoutResolver {
+
+    private final ShowRepository showRepository;
+    private final ScreenLayoutCache screenLayoutCache;
+
+    public ScreenLayout forShow(Show show) {
+        return screenLayoutCache.get(show.getScreen().getId());
+    }
+
+    public ScreenLayout forShow(Long showId) {
+        Long screenId = showRepository.findScreenIdById(showId)
+                .orElseThrow(() -> new ResourceNotFoundException("Show not found: " + showId));
+        return screenLayoutCache.get(screenId);
+    }
+}
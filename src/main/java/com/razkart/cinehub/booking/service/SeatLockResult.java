@@ -0,0 +1,24 @@
+package com.razkart.cinehub.booking.service;
+
+import java.util.List;
+
+/**
+ * Outcome of an all-or-nothing seat lock attempt.
+ * Either every requested seat is locked, or none is and the conflicting seats are reported.
+ */
+public record SeatLockResult(
+        List<Long> lockedSeatIds,
+        List<Long> conflictingSeatIds
+) {
+    public static SeatLockResult locked(List<Long> seatIds) {
+        return new SeatLockResult(List.copyOf(seatIds), List.of());
+    }
+
+    public static SeatLockResult conflict(List<Long> conflictingSeatIds) {
+        return new SeatLockResult(List.of(), List.copyOf(conflictingSeatIds));
+    }
+
+    public boolean isLocked() {
+        return conflictingSeatIds.isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.razkart.cinehub.booking.service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -9,9 +10,15 @@ import java.util.Set;
 public interface SeatLockService {
 
     /**
-     * Lock seats for a user. Returns list of successfully locked seat IDs.
+     * Lock all requested seats for a user, or none of them if any is already locked.
      */
-    List<Long> lockSeats(Long showId, List<Long> seatIds, Long userId, int expiryMinutes);
+    SeatLockResult lockSeats(Long showId, List<Long> seatIds, Long userId, int expiryMinutes);
+
+    /**
+     * Extend a user's locks on the given seats to expire {@code holdFor} from now.
+     * Returns false, extending nothing, if any of the seats is no longer held by the user.
+     */
+    boolean extendSeats(Long showId, List<Long> seatIds, Long userId, Duration holdFor);
 
     /**
      * Release specific seats.
@@ -23,6 +30,13 @@ public interface SeatLockService {
      */
     void releaseSeatsByUser(Long showId, Long userId);
 
+    /**
+     * Release many holds at once; a seat is only released while it is still held by the hold's user.
+     */
+    default void releaseHolds(List<SeatHold> holds) {
+        holds.forEach(hold -> releaseSeatsByUser(hold.showId(), hold.userId()));
+    }
+
     /**
      * Get all locked seat IDs for a show.
      */
@@ -2,18 +2,30 @@ package com.razkart.cinehub.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
- * Redis-based seat locking service using SETNX for atomic operations.
+ * Redis-based seat locking service.
+ * <p>
+ * A multi-seat lock is a single Lua script: either every seat is locked and recorded in
+ * the user's seat set, or nothing is written and the conflicting seats are returned.
+ * <p>
+ * Every show keeps a lock index (sorted set of seat IDs scored by lock expiry) next to
+ * the per-seat lock keys, so reading a show's locked seats never scans the keyspace.
+ * Reads skip entries whose expiry has passed and never write; the lock script prunes them.
  */
 @Service
+@ConditionalOnProperty(name = "cinehub.seat-lock.backend", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class SeatLockServiceImpl implements SeatLockService {
@@ -21,37 +33,94 @@ public class SeatLockServiceImpl implements SeatLockService {
     private final RedisTemplate<String, String> redisTemplate;
 
     private static final String SEAT_LOCK_PREFIX = "cinehub:seat:lock:";
+    private static final String SEAT_INDEX_PREFIX = "cinehub:seat:index:";
     private static final String USER_SEATS_PREFIX = "cinehub:user:seats:";
 
-    @Override
-    public List<Long> lockSeats(Long showId, List<Long> seatIds, Long userId, int expiryMinutes) {
-        List<Long> lockedSeats = new ArrayList<>();
-        Duration expiry = Duration.ofMinutes(expiryMinutes);
+    // Scripts are sent once and then invoked by SHA (EVALSHA, falling back to EVAL on NOSCRIPT).
 
-        for (Long seatId : seatIds) {
-            String lockKey = buildSeatLockKey(showId, seatId);
+    // KEYS[1] = user seats set, KEYS[2] = show lock index, KEYS[3..n] = seat lock keys
+    // ARGV[1] = userId, ARGV[2] = ttl millis, ARGV[3] = expiry epoch millis, ARGV[4..n] = seat IDs
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LOCK_SEATS_SCRIPT = RedisScript.of("""
+            local conflicts = {}
+            for i = 3, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    table.insert(conflicts, ARGV[i + 1])
+                end
+            end
+            if #conflicts > 0 then
+                return conflicts
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', tonumber(ARGV[3]) - tonumber(ARGV[2]))
+            for i = 3, #KEYS do
+                redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+                redis.call('SADD', KEYS[1], ARGV[i + 1])
+                redis.call('ZADD', KEYS[2], ARGV[3], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[2]) then
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            end
+            return conflicts
+            """, List.class);
+
+    // Same KEYS / ARGV layout as LOCK_SEATS_SCRIPT; only extends locks the user still owns
+    private static final RedisScript<Boolean> EXTEND_SEATS_SCRIPT = RedisScript.of("""
+            for i = 3, #KEYS do
+                if redis.call('GET', KEYS[i]) ~= ARGV[1] then
+                    return 0
+                end
+            end
+            for i = 3, #KEYS do
+                redis.call('PEXPIRE', KEYS[i], ARGV[2])
+                redis.call('ZADD', KEYS[2], ARGV[3], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[2]) then
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Boolean.class);
+
+    // KEYS[1] = show lock index, KEYS[2..n] = seat lock keys; ARGV[1] = userId
+    private static final RedisScript<Long> RELEASE_BY_USER_SCRIPT = RedisScript.of("""
+            local userId = ARGV[1]
+            local deleted = 0
+            for i = 2, #KEYS do
+                local key = KEYS[i]
+                if redis.call('GET', key) == userId then
+                    redis.call('DEL', key)
+                    redis.call('ZREM', KEYS[1], string.match(key, '(%d+)$'))
+                    deleted = deleted + 1
+                end
+            end
+            return deleted
+            """, Long.class);
 
-            // SETNX - atomic operation, only succeeds if key doesn't exist
-            Boolean locked = redisTemplate.opsForValue()
-                    .setIfAbsent(lockKey, userId.toString(), expiry);
+    @Override
+    public SeatLockResult lockSeats(Long showId, List<Long> seatIds, Long userId, int expiryMinutes) {
+        Duration expiry = Duration.ofMinutes(expiryMinutes);
+        List<?> conflicts = redisTemplate.execute(LOCK_SEATS_SCRIPT,
+                buildLockKeys(showId, seatIds, userId), buildLockArgs(seatIds, userId, expiry));
 
-            if (Boolean.TRUE.equals(locked)) {
-                lockedSeats.add(seatId);
-                log.debug("Locked seat {} for user {} in show {}", seatId, userId, showId);
-            } else {
-                log.debug("Seat {} already locked in show {}", seatId, showId);
-            }
+        if (conflicts != null && !conflicts.isEmpty()) {
+            List<Long> conflictingSeatIds = conflicts.stream()
+                    .map(seatId -> Long.parseLong(seatId.toString()))
+                    .toList();
+            log.debug("Seats {} already locked in show {}", conflictingSeatIds, showId);
+            return SeatLockResult.conflict(conflictingSeatIds);
         }
 
-        // Track user's locked seats
-        if (!lockedSeats.isEmpty()) {
-            String userSeatsKey = buildUserSeatsKey(showId, userId);
-            redisTemplate.opsForSet().add(userSeatsKey,
-                    lockedSeats.stream().map(String::valueOf).toArray(String[]::new));
-            redisTemplate.expire(userSeatsKey, expiry);
-        }
+        log.debug("Locked seats {} for user {} in show {}", seatIds, userId, showId);
+        return SeatLockResult.locked(seatIds);
+    }
 
-        return lockedSeats;
+    @Override
+    public boolean extendSeats(Long showId, List<Long> seatIds, Long userId, Duration holdFor) {
+        Boolean extended = redisTemplate.execute(EXTEND_SEATS_SCRIPT,
+                buildLockKeys(showId, seatIds, userId), buildLockArgs(seatIds, userId, holdFor));
+        log.debug("Extended seats {} for user {} in show {}: {}", seatIds, userId, showId, extended);
+        return Boolean.TRUE.equals(extended);
     }
 
     @Override
@@ -60,6 +129,8 @@ public class SeatLockServiceImpl implements SeatLockService {
                 .map(seatId -> buildSeatLockKey(showId, seatId))
                 .toList();
         redisTemplate.delete(keys);
+        redisTemplate.opsForZSet().remove(buildSeatIndexKey(showId),
+                seatIds.stream().map(String::valueOf).toArray());
         log.info("Released {} seats for show {}", seatIds.size(), showId);
     }
 
@@ -69,45 +140,78 @@ public class SeatLockServiceImpl implements SeatLockService {
         Set<String> seatIds = redisTemplate.opsForSet().members(userSeatsKey);
 
         if (seatIds != null && !seatIds.isEmpty()) {
-            List<String> lockKeys = seatIds.stream()
-                    .map(seatId -> buildSeatLockKey(showId, Long.parseLong(seatId)))
-                    .toList();
+            List<String> keys = new ArrayList<>(seatIds.size() + 1);
+            keys.add(buildSeatIndexKey(showId));
+            seatIds.forEach(seatId -> keys.add(buildSeatLockKey(showId, Long.parseLong(seatId))));
 
             // Lua script: only delete if lock belongs to this user
-            String luaScript = """
-                local userId = ARGV[1]
-                local deleted = 0
-                for i, key in ipairs(KEYS) do
-                    if redis.call('GET', key) == userId then
-                        redis.call('DEL', key)
-                        deleted = deleted + 1
-                    end
-                end
-                return deleted
-                """;
-
-            redisTemplate.execute(
-                    RedisScript.of(luaScript, Long.class),
-                    lockKeys,
-                    userId.toString()
-            );
+            redisTemplate.execute(RELEASE_BY_USER_SCRIPT, keys, userId.toString());
 
             redisTemplate.delete(userSeatsKey);
         }
         log.info("Released all seats for user {} in show {}", userId, showId);
     }
 
+    @Override
+    public void releaseHolds(List<SeatHold> holds) {
+        try {
+            pipelineReleases(holds);
+        } catch (RuntimeException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            // Redis dropped its script cache (restart or SCRIPT FLUSH): load the script and replay.
+            // Releasing is idempotent, so holds already released by the first attempt are unaffected.
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                    .scriptLoad(RELEASE_BY_USER_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            pipelineReleases(holds);
+        }
+        log.info("Released {} seat holds", holds.size());
+    }
+
+    // One pipelined round trip; the seat IDs are known, so the user seat sets are not read
+    private void pipelineReleases(List<SeatHold> holds) {
+        String sha = RELEASE_BY_USER_SCRIPT.getSha1();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SeatHold hold : holds) {
+                List<String> keys = new ArrayList<>(hold.seatIds().size() + 1);
+                keys.add(buildSeatIndexKey(hold.showId()));
+                hold.seatIds().forEach(seatId -> keys.add(buildSeatLockKey(hold.showId(), seatId)));
+
+                byte[][] keysAndArgs = new byte[keys.size() + 1][];
+                for (int i = 0; i < keys.size(); i++) {
+                    keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+                }
+                keysAndArgs[keys.size()] = hold.userId().toString().getBytes(StandardCharsets.UTF_8);
+
+                connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, keys.size(), keysAndArgs);
+                connection.keyCommands().del(buildUserSeatsKey(hold.showId(), hold.userId()).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private static boolean isNoScriptError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public Set<Long> getLockedSeats(Long showId) {
-        String pattern = SEAT_LOCK_PREFIX + showId + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
+        // Read-only, so it can be served by a replica: entries scored at or before now have expired
+        Set<String> seatIds = redisTemplate.opsForZSet().rangeByScore(buildSeatIndexKey(showId),
+                System.currentTimeMillis() + 1, Double.POSITIVE_INFINITY);
 
-        if (keys == null || keys.isEmpty()) {
+        if (seatIds == null || seatIds.isEmpty()) {
             return Collections.emptySet();
         }
 
-        return keys.stream()
-                .map(key -> Long.parseLong(key.substring(key.lastIndexOf(":") + 1)))
+        return seatIds.stream()
+                .map(Long::parseLong)
                 .collect(Collectors.toSet());
     }
 
@@ -117,10 +221,33 @@ public class SeatLockServiceImpl implements SeatLockService {
         return !Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
     }
 
+    private List<String> buildLockKeys(Long showId, List<Long> seatIds, Long userId) {
+        List<String> keys = new ArrayList<>(seatIds.size() + 2);
+        keys.add(buildUserSeatsKey(showId, userId));
+        keys.add(buildSeatIndexKey(showId));
+        seatIds.forEach(seatId -> keys.add(buildSeatLockKey(showId, seatId)));
+        return keys;
+    }
+
+    private Object[] buildLockArgs(List<Long> seatIds, Long userId, Duration expiry) {
+        Object[] args = new Object[seatIds.size() + 3];
+        args[0] = userId.toString();
+        args[1] = String.valueOf(expiry.toMillis());
+        args[2] = String.valueOf(System.currentTimeMillis() + expiry.toMillis());
+        for (int i = 0; i < seatIds.size(); i++) {
+            args[i + 3] = seatIds.get(i).toString();
+        }
+        return args;
+    }
+
     private String buildSeatLockKey(Long showId, Long seatId) {
         return SEAT_LOCK_PREFIX + showId + ":" + seatId;
     }
 
+    private String buildSeatIndexKey(Long showId) {
+        return SEAT_INDEX_PREFIX + showId;
+    }
+
     private String buildUserSeatsKey(Long showId, Long userId) {
         return USER_SEATS_PREFIX + showId + ":" + userId;
     }
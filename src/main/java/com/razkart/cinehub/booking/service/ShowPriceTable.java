@@ -0,0 +1,125 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.show.entity.ShowPricing;
+import com.razkart.cinehub.venue.entity.SeatType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable seat-type prices of one show in paise, indexed by {@link SeatType#ordinal()}.
+ * Seat types without a price cost nothing, as they always have.
+ * <p>
+ * A table is the show's configured prices scaled by a {@link DynamicPricing} multiplier. Its
+ * {@link #version()} names both, so a booking can be priced against exactly the table the user saw.
+ */
+public final class ShowPriceTable {
+
+    private final long[] basePaise;
+    private final long[] paiseBySeatType;
+    private final Map<String, BigDecimal> prices;
+    private final int compiledFrom;
+    private final int multiplier;
+    private final String version;
+
+    private ShowPriceTable(long[] basePaise, long[] paiseBySeatType, Map<String, BigDecimal> prices,
+                           int compiledFrom, int multiplier) {
+        this.basePaise = basePaise;
+        this.paiseBySeatType = paiseBySeatType;
+        this.prices = prices;
+        this.compiledFrom = compiledFrom;
+        this.multiplier = multiplier;
+        this.version = revision(compiledFrom) + "." + multiplier;
+    }
+
+    /**
+     * Compile a show's pricing rows; {@code pricingRevision} identifies the revision they were read at.
+     */
+    public static ShowPriceTable compile(Collection<ShowPricing> pricing, int pricingRevision) {
+        long[] paiseBySeatType = new long[SeatType.values().length];
+        Map<String, BigDecimal> prices = new LinkedHashMap<>();
+        for (ShowPricing showPricing : pricing) {
+            paiseBySeatType[showPricing.getSeatType().ordinal()] = toPaise(showPricing.getPrice());
+            prices.put(showPricing.getSeatType().name(), showPricing.getPrice());
+        }
+        return new ShowPriceTable(paiseBySeatType, paiseBySeatType, Collections.unmodifiableMap(prices),
+                pricingRevision, DynamicPricing.BASE_MULTIPLIER);
+    }
+
+    /**
+     * The same base prices scaled by a multiplier in basis points; scaled prices are rounded to the rupee.
+     */
+    public ShowPriceTable withMultiplier(int multiplier) {
+        if (multiplier == this.multiplier) {
+            return this;
+        }
+        long[] paiseBySeatType = basePaise;
+        if (multiplier != DynamicPricing.BASE_MULTIPLIER) {
+            paiseBySeatType = new long[basePaise.length];
+            for (int i = 0; i < basePaise.length; i++) {
+                paiseBySeatType[i] = (Math.multiplyExact(basePaise[i], multiplier) + 500_000) / 1_000_000 * 100;
+            }
+        }
+        Map<String, BigDecimal> prices = new LinkedHashMap<>();
+        for (String seatType : this.prices.keySet()) {
+            prices.put(seatType, toRupees(paiseBySeatType[SeatType.valueOf(seatType).ordinal()]));
+        }
+        return new ShowPriceTable(basePaise, paiseBySeatType, Collections.unmodifiableMap(prices), compiledFrom, multiplier);
+    }
+
+    public long pricePaise(SeatType seatType) {
+        return paiseBySeatType[seatType.ordinal()];
+    }
+
+    /**
+     * Prices keyed by seat type name, as rendered in seat availability responses.
+     */
+    public Map<String, BigDecimal> asMap() {
+        return prices;
+    }
+
+    public int multiplier() {
+        return multiplier;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Multiplier named by a version of this table's base prices, or null if the version belongs to other
+     * base prices or is not a version at all.
+     */
+    Integer multiplierOf(String version) {
+        String prefix = revision(compiledFrom) + ".";
+        if (!version.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(version.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    boolean isCompiledFrom(int pricingRevision) {
+        return compiledFrom == pricingRevision;
+    }
+
+    private static String revision(int pricingRevision) {
+        return Integer.toString(pricingRevision, 36);
+    }
+
+    static long toPaise(BigDecimal rupees) {
+        // Prices are stored with two decimals, so this never rounds
+        return rupees.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    static BigDecimal toRupees(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+}
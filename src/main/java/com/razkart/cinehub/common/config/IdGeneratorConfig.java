@@ -0,0 +1,29 @@
+package com.razkart.cinehub.common.config;
+
+import com.razkart.cinehub.common.util.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    private static final String NODE_SEQUENCE_KEY = "cinehub:id:node-sequence";
+
+    /**
+     * Uses {@code cinehub.id.node-id} when set; otherwise each starting node takes the next of 1024
+     * node IDs from a Redis counter, so live nodes only share one after 1024 restarts in between.
+     */
+    @Bean
+    public IdGenerator idGenerator(RedisTemplate<String, String> redisTemplate,
+                                   @Value("${cinehub.id.node-id:-1}") int configuredNodeId) {
+        int nodeId = configuredNodeId >= 0
+                ? configuredNodeId
+                : (int) Math.floorMod(redisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY), IdGenerator.MAX_NODE_ID + 1L);
+        log.info("ID generator using node ID {}", nodeId);
+        return new IdGenerator(nodeId);
+    }
+}
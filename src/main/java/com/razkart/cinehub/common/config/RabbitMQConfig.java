@@ -14,6 +14,8 @@ public class RabbitMQConfig {
     public static final String NOTIFICATION_EXCHANGE = "cinehub.notifications";
     public static final String NOTIFICATION_QUEUE = "cinehub.notifications.queue";
     public static final String NOTIFICATION_ROUTING_KEY = "notification.send";
+    // Header the JSON message converter reads the payload type from
+    public static final String TYPE_ID_HEADER = "__TypeId__";
 
     @Bean
     public TopicExchange notificationExchange() {
@@ -0,0 +1,21 @@
+package com.razkart.cinehub.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a show's waiting room has not admitted the caller yet.
+ * Clients should poll their queue position and retry after {@link #getRetryAfterSeconds()}.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+@Getter
+public class AdmissionRequiredException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRequiredException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
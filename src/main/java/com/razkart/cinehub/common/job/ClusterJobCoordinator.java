@@ -0,0 +1,170 @@
+package com.razkart.cinehub.common.job;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis-backed coordination of scheduled jobs across the nodes of a cluster.
+ * <p>
+ * Singleton jobs run under a named lease with a fencing token; the lease expires if its
+ * node dies, so another node takes over on its next run. Partitioned jobs split their work
+ * between the live nodes, which announce themselves with a heartbeat.
+ * <p>
+ * A lease only fences writes that check it atomically: a Redis script given {@link #leaseKey}
+ * and {@link JobLease#value()} can refuse to write unless the lease is still current. Writes to
+ * anything else can still come from a node that has just lost its lease, so they must be
+ * idempotent or conditional; {@link #isHeld} only narrows that window.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobCoordinator {
+
+    private static final String LEASE_PREFIX = "cinehub:job:lease:";
+    private static final String FENCE_PREFIX = "cinehub:job:fence:";
+    private static final String NODES_KEY = "cinehub:job:nodes";
+
+    // KEYS[1] = lease, KEYS[2] = fence counter; ARGV[1] = nodeId, ARGV[2] = ttl millis.
+    // Returns the fencing token, or nil if another node holds the lease.
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                local owner, token = string.match(current, '^(.*):(%d+)$')
+                if owner ~= ARGV[1] then
+                    return nil
+                end
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return tonumber(token)
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    // KEYS[1] = lease; ARGV[1] = expected lease value
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Set<JobLease> heldLeases = ConcurrentHashMap.newKeySet();
+    private String nodeId;
+
+    @Value("${cinehub.cluster.node-timeout-ms:15000}")
+    private long nodeTimeoutMs;
+
+    @PostConstruct
+    public void register() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        nodeId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        heartbeat();
+        log.info("Registered cluster node {}", nodeId);
+    }
+
+    @PreDestroy
+    public void deregister() {
+        heldLeases.forEach(this::release);
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+    }
+
+    @Scheduled(fixedDelayString = "${cinehub.cluster.heartbeat-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTimeoutMs);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Acquire or renew the lease on a job; empty if another node holds it.
+     */
+    public Optional<JobLease> tryAcquire(String jobName, Duration ttl) {
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEASE_PREFIX + jobName, FENCE_PREFIX + jobName),
+                nodeId, String.valueOf(ttl.toMillis()));
+        if (token == null) {
+            return Optional.empty();
+        }
+        JobLease lease = new JobLease(jobName, nodeId, token);
+        heldLeases.add(lease);
+        return Optional.of(lease);
+    }
+
+    /**
+     * Whether a lease is still current. This is check-then-act: the lease can be lost right after,
+     * so use it to stop early, not to guard a write that must never come from a stale leader.
+     */
+    public boolean isHeld(JobLease lease) {
+        return lease.value().equals(redisTemplate.opsForValue().get(LEASE_PREFIX + lease.jobName()));
+    }
+
+    /**
+     * Key holding a job's lease, for scripts that only write while it still equals {@link JobLease#value()}.
+     */
+    public String leaseKey(JobLease lease) {
+        return LEASE_PREFIX + lease.jobName();
+    }
+
+    public void release(JobLease lease) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + lease.jobName()), lease.value());
+        heldLeases.remove(lease);
+    }
+
+    /**
+     * Run a job on one node of the cluster at a time; skipped here if another node holds its lease.
+     * The lease must outlive a run, as a node that dies mid-run keeps the job until it expires.
+     */
+    public boolean runExclusive(String jobName, Duration ttl, Consumer<JobLease> job) {
+        Optional<JobLease> lease = tryAcquire(jobName, ttl);
+        if (lease.isEmpty()) {
+            log.debug("Skipping job {}: lease held by another node", jobName);
+            return false;
+        }
+        try {
+            job.accept(lease.get());
+        } finally {
+            release(lease.get());
+        }
+        return true;
+    }
+
+    /**
+     * This node's partition among the live nodes. Membership changes between runs can briefly
+     * overlap or skip keys, so partitioned jobs must be idempotent and pick up leftovers next run.
+     */
+    public JobPartition currentPartition() {
+        long now = System.currentTimeMillis();
+        Set<String> liveNodes = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - nodeTimeoutMs, Double.MAX_VALUE);
+        if (liveNodes == null || !liveNodes.contains(nodeId)) {
+            return new JobPartition(0, 1);
+        }
+        List<String> nodes = new ArrayList<>(liveNodes);
+        Collections.sort(nodes);
+        return new JobPartition(nodes.indexOf(nodeId), nodes.size());
+    }
+}
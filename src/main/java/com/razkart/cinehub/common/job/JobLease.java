@@ -0,0 +1,15 @@
+package com.razkart.cinehub.common.job;
+
+/**
+ * A node's lease on a named job. Fencing tokens only grow, so a write tagged with an
+ * older token than the current one comes from a node that has lost the lease.
+ */
+public record JobLease(String jobName, String nodeId, long fencingToken) {
+
+    /**
+     * The lease key's value while this lease is current.
+     */
+    public String value() {
+        return nodeId + ":" + fencingToken;
+    }
+}
@@ -0,0 +1,12 @@
+package com.razkart.cinehub.common.job;
+
+/**
+ * This node's share of a partitioned job: partition {@code index} of {@code count}, one per live node.
+ * Work items are assigned by key modulo {@code count}.
+ */
+public record JobPartition(int index, int count) {
+
+    public boolean owns(long key) {
+        return Math.floorMod(key, count) == index;
+    }
+}
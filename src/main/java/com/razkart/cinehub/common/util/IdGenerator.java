@@ -0,0 +1,69 @@
+package com.razkart.cinehub.common.util;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, time-ordered 63-bit ID generator for business identifiers.
+ * <p>
+ * An ID packs milliseconds since 2024-01-01 (41 bits, good until 2093), the node ID (10 bits) and a
+ * per-millisecond sequence (12 bits). The timestamp and sequence share one {@link AtomicLong}, so a
+ * compare-and-set claims both at once. When a millisecond runs out of sequence numbers, or the clock
+ * steps back, the next ID borrows the following millisecond instead of blocking, so IDs from one
+ * node never repeat while the node ID is unique across the cluster.
+ * <p>
+ * IDs render as fixed-width, zero-padded base-36 strings behind a prefix, which sort in ID order.
+ */
+public class IdGenerator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 36^13 > 2^63, so 13 digits hold any ID
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    // (millis since epoch << SEQUENCE_BITS) | sequence of the last ID handed out
+    private final AtomicLong lastState = new AtomicLong();
+
+    public IdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            // Sequence overflow carries into the timestamp, i.e. borrows the next millisecond
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Next ID as {@code prefix} followed by 13 base-36 digits, e.g. {@code CH00K3W7T1Q2B4}.
+     */
+    public String next(String prefix) {
+        return encode(prefix, nextId());
+    }
+
+    static String encode(String prefix, long id) {
+        char[] chars = new char[prefix.length() + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = DIGITS[(int) (id % 36)];
+            id /= 36;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,17 @@
+package com.razkart.cinehub.notification.repository;
+
+import com.razkart.cinehub.notification.entity.OutboxMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Oldest messages first, so each batch is published in commit order.
+     */
+    List<OutboxMessage> findByOrderByIdAsc(Limit limit);
+}
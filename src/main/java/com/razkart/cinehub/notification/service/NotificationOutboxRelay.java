@@ -0,0 +1,102 @@
+package com.razkart.cinehub.notification.service;
+
+import com.razkart.cinehub.common.config.RabbitMQConfig;
+import com.razkart.cinehub.common.job.ClusterJobCoordinator;
+import com.razkart.cinehub.common.job.JobLease;
+import com.razkart.cinehub.notification.entity.OutboxMessage;
+import com.razkart.cinehub.notification.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Drains the notification outbox to RabbitMQ.
+ * <p>
+ * One node at a time publishes the oldest rows in batches on a single channel and waits for the
+ * broker's publisher confirms; a batch is only deleted once all of it is confirmed, and is sent
+ * again on the next run otherwise. Delivery is therefore at least once: each message carries its
+ * outbox id as the message id for consumers that need to de-duplicate.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxRelay {
+
+    private static final String RELAY_JOB = "notification-outbox-relay";
+    private static final Duration RELAY_LEASE = Duration.ofSeconds(30);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final ClusterJobCoordinator clusterJobCoordinator;
+
+    @Value("${cinehub.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${cinehub.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${cinehub.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis;
+
+    @Scheduled(fixedDelayString = "${cinehub.outbox.relay-interval-ms:500}")
+    public void relay() {
+        clusterJobCoordinator.runExclusive(RELAY_JOB, RELAY_LEASE, this::drain);
+    }
+
+    private void drain(JobLease lease) {
+        int relayed = 0;
+        // Delivery is at-least-once anyway: a stale leader can only publish a batch again, under the
+        // same outbox message ids. The lease check just stops it early.
+        for (int batch = 0; batch < maxBatchesPerRun && clusterJobCoordinator.isHeld(lease); batch++) {
+            List<OutboxMessage> messages = outboxMessageRepository.findByOrderByIdAsc(Limit.of(batchSize));
+            if (messages.isEmpty()) {
+                break;
+            }
+            if (!publish(messages)) {
+                // The whole batch is published again next run
+                break;
+            }
+            outboxMessageRepository.deleteAllByIdInBatch(messages.stream().map(OutboxMessage::getId).toList());
+            relayed += messages.size();
+            if (messages.size() < batchSize) {
+                break;
+            }
+        }
+        if (relayed > 0) {
+            log.debug("Relayed {} outbox messages", relayed);
+        }
+    }
+
+    private boolean publish(List<OutboxMessage> messages) {
+        try {
+            // One channel for the batch, then a single wait for the broker to confirm all of it
+            return Boolean.TRUE.equals(rabbitTemplate.invoke(operations -> {
+                messages.forEach(message -> operations.send(message.getExchange(), message.getRoutingKey(), toMessage(message)));
+                return operations.waitForConfirms(confirmTimeoutMillis);
+            }));
+        } catch (AmqpException e) {
+            log.warn("Failed to publish {} outbox messages: {}", messages.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Message toMessage(OutboxMessage outboxMessage) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setHeader(RabbitMQConfig.TYPE_ID_HEADER, outboxMessage.getTypeId());
+        properties.setMessageId("outbox-" + outboxMessage.getId());
+        return new Message(outboxMessage.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
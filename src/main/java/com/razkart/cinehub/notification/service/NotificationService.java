@@ -5,7 +5,8 @@ import com.razkart.cinehub.notification.dto.NotificationPayload;
 public interface NotificationService {
 
     /**
-     * Send notification asynchronously via RabbitMQ.
+     * Queue a notification for RabbitMQ through the outbox. Joins the caller's transaction, so the
+     * notification is only sent if that transaction commits.
      */
     void sendNotification(NotificationPayload payload);
 
@@ -1,29 +1,41 @@
 package com.razkart.cinehub.notification.service;
 
+import com.razkart.cinehub.common.config.RabbitMQConfig;
 import com.razkart.cinehub.notification.dto.NotificationPayload;
+import com.razkart.cinehub.notification.entity.OutboxMessage;
+import com.razkart.cinehub.notification.repository.OutboxMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationServiceImpl implements NotificationService {
 
-    private final RabbitTemplate rabbitTemplate;
-
-    private static final String NOTIFICATION_EXCHANGE = "cinehub.notifications";
-    private static final String NOTIFICATION_ROUTING_KEY = "notification.send";
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final MessageConverter messageConverter;
 
     @Override
+    @Transactional
     public void sendNotification(NotificationPayload payload) {
-        try {
-            rabbitTemplate.convertAndSend(NOTIFICATION_EXCHANGE, NOTIFICATION_ROUTING_KEY, payload);
-            log.info("Notification queued: {} to {}", payload.type(), payload.recipient());
-        } catch (Exception e) {
-            log.error("Failed to queue notification: {}", e.getMessage());
-        }
+        // Converted now so the relay publishes exactly what a direct send would have
+        Message message = messageConverter.toMessage(payload, new MessageProperties());
+        outboxMessageRepository.save(OutboxMessage.builder()
+                .exchange(RabbitMQConfig.NOTIFICATION_EXCHANGE)
+                .routingKey(RabbitMQConfig.NOTIFICATION_ROUTING_KEY)
+                .typeId(message.getMessageProperties().getHeader(RabbitMQConfig.TYPE_ID_HEADER))
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.info("Notification queued: {} to {}", payload.type(), payload.recipient());
     }
 
     @Override
@@ -1,15 +1,21 @@
 package com.razkart.cinehub.payment.dto;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 
 public record PaymentRequest(
-        @NotNull(message = "Booking ID is required")
         Long bookingId,
 
+        Long bookingGroupId,
+
         @NotBlank(message = "Payment method is required")
         String paymentMethod,
 
         @NotBlank(message = "Idempotency key is required")
         String idempotencyKey
-) {}
+) {
+    @AssertTrue(message = "Either a booking ID or a booking group ID is required")
+    public boolean isForOneOrder() {
+        return (bookingId == null) != (bookingGroupId == null);
+    }
+}
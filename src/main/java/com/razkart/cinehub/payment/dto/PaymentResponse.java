@@ -11,6 +11,8 @@ public record PaymentResponse(
         Long id,
         Long bookingId,
         String bookingNumber,
+        Long bookingGroupId,
+        String groupNumber,
         BigDecimal amount,
         PaymentMethod paymentMethod,
         String paymentGateway,
@@ -22,8 +24,10 @@ public record PaymentResponse(
     public static PaymentResponse from(Payment payment) {
         return new PaymentResponse(
                 payment.getId(),
-                payment.getBooking().getId(),
-                payment.getBooking().getBookingNumber(),
+                payment.getBooking() != null ? payment.getBooking().getId() : null,
+                payment.getBooking() != null ? payment.getBooking().getBookingNumber() : null,
+                payment.getBookingGroup() != null ? payment.getBookingGroup().getId() : null,
+                payment.getBookingGroup() != null ? payment.getBookingGroup().getGroupNumber() : null,
                 payment.getAmount(),
                 payment.getPaymentMethod(),
                 payment.getPaymentGateway(),
@@ -1,6 +1,7 @@
 package com.razkart.cinehub.payment.entity;
 
 import com.razkart.cinehub.booking.entity.Booking;
+import com.razkart.cinehub.booking.entity.BookingGroup;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -23,10 +24,15 @@ public class Payment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Exactly one of booking and bookingGroup is set
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "booking_id", nullable = false)
+    @JoinColumn(name = "booking_id")
     private Booking booking;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "booking_group_id")
+    private BookingGroup bookingGroup;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
 
@@ -1,12 +1,16 @@
 package com.razkart.cinehub.payment.service;
 
 import com.razkart.cinehub.booking.entity.Booking;
+import com.razkart.cinehub.booking.entity.BookingGroup;
 import com.razkart.cinehub.booking.entity.BookingStatus;
+import com.razkart.cinehub.booking.repository.BookingGroupRepository;
 import com.razkart.cinehub.booking.repository.BookingRepository;
+import com.razkart.cinehub.booking.service.BookingGroupService;
 import com.razkart.cinehub.booking.service.BookingService;
 import com.razkart.cinehub.booking.dto.PaymentConfirmation;
 import com.razkart.cinehub.common.exception.BusinessException;
 import com.razkart.cinehub.common.exception.ResourceNotFoundException;
+import com.razkart.cinehub.common.util.IdGenerator;
 import com.razkart.cinehub.payment.dto.PaymentCallbackRequest;
 import com.razkart.cinehub.payment.dto.PaymentRequest;
 import com.razkart.cinehub.payment.dto.PaymentResponse;
@@ -19,7 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -30,14 +33,17 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentRepository paymentRepository;
     private final RefundRepository refundRepository;
     private final BookingRepository bookingRepository;
+    private final BookingGroupRepository bookingGroupRepository;
     private final BookingService bookingService;
+    private final BookingGroupService bookingGroupService;
+    private final IdGenerator idGenerator;
 
     private static final String PAYMENT_GATEWAY = "RAZORPAY";
 
     @Override
     @Transactional
     public PaymentResponse initiatePayment(PaymentRequest request, Long userId) {
-        log.info("Initiating payment for booking: {}", request.bookingId());
+        log.info("Initiating payment for booking: {}, group: {}", request.bookingId(), request.bookingGroupId());
 
         // Check for duplicate payment using idempotency key
         if (paymentRepository.existsByIdempotencyKey(request.idempotencyKey())) {
@@ -46,9 +52,18 @@ public class PaymentServiceImpl implements PaymentService {
             return PaymentResponse.from(existingPayment);
         }
 
+        if (request.bookingGroupId() != null) {
+            return initiateGroupPayment(request, userId);
+        }
+
         Booking booking = bookingRepository.findById(request.bookingId())
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + request.bookingId()));
 
+        if (booking.getGroup() != null) {
+            throw new BusinessException("This booking is part of " + booking.getGroup().getGroupNumber()
+                    + "; pay for it with the booking group ID");
+        }
+
         if (booking.getStatus() != BookingStatus.PENDING) {
             throw new BusinessException("Booking is not in pending state");
         }
@@ -100,7 +115,11 @@ public class PaymentServiceImpl implements PaymentService {
                     callback.paymentId(),
                     payment.getPaymentMethod().name()
             );
-            bookingService.confirmBooking(payment.getBooking().getId(), confirmation);
+            if (payment.getBookingGroup() != null) {
+                bookingGroupService.confirmGroup(payment.getBookingGroup().getId(), confirmation);
+            } else {
+                bookingService.confirmBooking(payment.getBooking().getId(), confirmation);
+            }
 
             log.info("Payment successful: {}", callback.paymentId());
         } else {
@@ -152,7 +171,39 @@ public class PaymentServiceImpl implements PaymentService {
         log.info("Refund initiated for payment: {}", paymentId);
     }
 
+    private PaymentResponse initiateGroupPayment(PaymentRequest request, Long userId) {
+        BookingGroup group = bookingGroupRepository.findById(request.bookingGroupId())
+                .orElseThrow(() -> new ResourceNotFoundException("Booking group not found: " + request.bookingGroupId()));
+
+        if (group.getStatus() != BookingStatus.PENDING) {
+            throw new BusinessException("Booking group is not in pending state");
+        }
+
+        if (!group.getUser().getId().equals(userId)) {
+            throw new BusinessException("Not authorized to pay for this booking group");
+        }
+
+        if (group.isExpired()) {
+            throw new BusinessException("Booking group has expired");
+        }
+
+        Payment payment = Payment.builder()
+                .bookingGroup(group)
+                .amount(group.getFinalAmount())
+                .paymentMethod(PaymentMethod.valueOf(request.paymentMethod()))
+                .paymentGateway(PAYMENT_GATEWAY)
+                .gatewayOrderId(generateOrderId())
+                .idempotencyKey(request.idempotencyKey())
+                .status(PaymentGatewayStatus.INITIATED)
+                .build();
+
+        Payment savedPayment = paymentRepository.save(payment);
+        log.info("Payment initiated for booking group {}: {}", group.getGroupNumber(), savedPayment.getGatewayOrderId());
+
+        return PaymentResponse.from(savedPayment);
+    }
+
     private String generateOrderId() {
-        return "order_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        return idGenerator.next("order_");
     }
 }
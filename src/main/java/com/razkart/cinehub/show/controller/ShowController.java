@@ -1,20 +1,29 @@
 package com.razkart.cinehub.show.controller;
 
 import com.razkart.cinehub.common.dto.ApiResponse;
-import com.razkart.cinehub.show.dto.SeatAvailabilityResponse;
+import com.razkart.cinehub.show.dto.SeatAvailabilityBitset;
+import com.razkart.cinehub.show.dto.SeatMapSnapshot;
 import com.razkart.cinehub.show.dto.ShowRequest;
 import com.razkart.cinehub.show.dto.ShowResponse;
 import com.razkart.cinehub.show.service.ShowService;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.waitingroom.service.WaitingRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,6 +35,7 @@ import java.util.List;
 public class ShowController {
 
     private final ShowService showService;
+    private final WaitingRoomService waitingRoomService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'THEATER_OWNER')")
@@ -113,11 +123,41 @@ public class ShowController {
     }
 
     @GetMapping("/{showId}/seats")
-    @Operation(summary = "Get seat availability for a show")
-    public ResponseEntity<ApiResponse<SeatAvailabilityResponse>> getSeatAvailability(
-            @PathVariable Long showId) {
+    @Operation(summary = "Get seat availability for a show",
+            description = "Send Accept: " + SeatAvailabilityBitset.MEDIA_TYPE + " or format=bitset for the compact bitset form")
+    public ResponseEntity<byte[]> getSeatAvailability(
+            @PathVariable Long showId,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = WaitingRoomService.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
+
+        waitingRoomService.checkAdmission(showId, queueToken, currentUser);
+
+        boolean bitset = "bitset".equalsIgnoreCase(format)
+                || (accept != null && accept.contains(SeatAvailabilityBitset.MEDIA_TYPE));
+        if (webRequest.checkNotModified(showService.getSeatMapETag(showId, bitset))) {
+            return null;
+        }
+
+        SeatMapSnapshot snapshot = showService.getSeatMapSnapshot(showId, bitset);
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(bitset ? MediaType.parseMediaType(SeatAvailabilityBitset.MEDIA_TYPE) : MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+    @GetMapping(value = "/{showId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream seat availability for a show (snapshot, then versioned deltas)")
+    public SseEmitter streamSeatAvailability(
+            @PathVariable Long showId,
+            @RequestHeader(value = WaitingRoomService.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @AuthenticationPrincipal User currentUser) {
 
-        SeatAvailabilityResponse availability = showService.getSeatAvailability(showId);
-        return ResponseEntity.ok(ApiResponse.success(availability));
+        waitingRoomService.checkAdmission(showId, queueToken, currentUser);
+        return showService.streamSeatAvailability(showId);
     }
 }
@@ -0,0 +1,49 @@
+package com.razkart.cinehub.show.dto;
+
+import com.razkart.cinehub.venue.service.ScreenLayout;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact seat availability of a show, served instead of {@link SeatAvailabilityResponse}
+ * when a client asks for {@value #MEDIA_TYPE} or {@code ?format=bitset}.
+ * <p>
+ * Bit {@code n} of {@code available} (most significant bit of each byte first) is set when
+ * the seat with layout ordinal {@code n} can be booked. Seat details come from the screen's
+ * seat layout with the same {@code layoutVersion}, which clients cache. Bookings made from this
+ * view should send back {@code pricingVersion} to be charged the prices shown.
+ */
+public record SeatAvailabilityBitset(
+        Long showId,
+        Long screenId,
+        String layoutVersion,
+        Integer totalSeats,
+        Integer availableSeats,
+        Map<String, BigDecimal> pricing,
+        String pricingVersion,
+        byte[] available
+) {
+    public static final String MEDIA_TYPE = "application/vnd.cinehub.seat-bitset+json";
+
+    public static SeatAvailabilityBitset from(
+            Long showId,
+            ScreenLayout layout,
+            Set<Long> unavailableSeatIds,
+            Map<String, BigDecimal> pricing,
+            String pricingVersion) {
+
+        byte[] available = new byte[(layout.size() + 7) / 8];
+        int availableSeats = 0;
+        for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+            if (layout.isUsable(ordinal) && !unavailableSeatIds.contains(layout.seatIdAt(ordinal))) {
+                available[ordinal >>> 3] |= (byte) (0x80 >>> (ordinal & 7));
+                availableSeats++;
+            }
+        }
+
+        return new SeatAvailabilityBitset(showId, layout.getScreenId(), layout.getVersion(),
+                layout.size(), availableSeats, pricing, pricingVersion, available);
+    }
+}
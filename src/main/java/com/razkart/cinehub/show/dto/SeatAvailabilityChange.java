@@ -0,0 +1,28 @@
+package com.razkart.cinehub.show.dto;
+
+import java.util.List;
+
+/**
+ * Application event describing a change to the availability of some seats of a show.
+ * Published by the booking flow and delivered to listeners after the surrounding transaction commits.
+ */
+public record SeatAvailabilityChange(
+        Long showId,
+        ChangeType type,
+        List<Long> seatIds
+) {
+    public enum ChangeType {
+        HELD,
+        RELEASED,
+        BOOKED,
+        CANCELLED
+    }
+
+    public static SeatAvailabilityChange of(Long showId, ChangeType type, List<Long> seatIds) {
+        return new SeatAvailabilityChange(showId, type, List.copyOf(seatIds));
+    }
+
+    public boolean makesUnavailable() {
+        return type == ChangeType.HELD || type == ChangeType.BOOKED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.razkart.cinehub.show.dto;
+
+import java.util.List;
+
+/**
+ * A versioned seat availability change pushed to seat-map subscribers.
+ */
+public record SeatAvailabilityDelta(
+        Long showId,
+        long version,
+        SeatAvailabilityChange.ChangeType type,
+        List<Long> seatIds,
+        boolean isAvailable
+) {}
@@ -1,19 +1,21 @@
 package com.razkart.cinehub.show.dto;
 
-import com.razkart.cinehub.venue.entity.Seat;
 import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.service.ScreenLayout;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public record SeatAvailabilityResponse(
         Long showId,
         Integer totalSeats,
         Integer availableSeats,
         Map<String, BigDecimal> pricing,
+        String pricingVersion,
         Map<String, List<SeatInfo>> rows
 ) {
     public record SeatInfo(
@@ -28,29 +30,31 @@ public record SeatAvailabilityResponse(
 
     public static SeatAvailabilityResponse from(
             Long showId,
-            List<Seat> allSeats,
+            ScreenLayout layout,
             Set<Long> unavailableSeatIds,
-            Map<String, BigDecimal> pricing) {
+            Map<String, BigDecimal> pricing,
+            String pricingVersion) {
 
-        Map<String, List<SeatInfo>> rows = allSeats.stream()
-                .collect(Collectors.groupingBy(
-                        Seat::getRowName,
-                        Collectors.mapping(seat -> new SeatInfo(
-                                seat.getId(),
-                                seat.getSeatLabel(),
-                                seat.getSeatType(),
-                                seat.getXPosition(),
-                                seat.getYPosition(),
-                                seat.getIsAvailable() && !unavailableSeatIds.contains(seat.getId()),
-                                pricing.getOrDefault(seat.getSeatType().name(), BigDecimal.ZERO)
-                        ), Collectors.toList())
-                ));
+        Map<String, List<SeatInfo>> rows = new LinkedHashMap<>();
+        int availableSeats = 0;
+        for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+            long seatId = layout.seatIdAt(ordinal);
+            SeatType seatType = layout.seatTypeAt(ordinal);
+            boolean isAvailable = layout.isUsable(ordinal) && !unavailableSeatIds.contains(seatId);
+            if (isAvailable) {
+                availableSeats++;
+            }
+            rows.computeIfAbsent(layout.rowNameAt(ordinal), row -> new ArrayList<>()).add(new SeatInfo(
+                    seatId,
+                    layout.seatLabelAt(ordinal),
+                    seatType,
+                    layout.xPositionAt(ordinal),
+                    layout.yPositionAt(ordinal),
+                    isAvailable,
+                    pricing.getOrDefault(seatType.name(), BigDecimal.ZERO)
+            ));
+        }
 
-        int totalSeats = allSeats.size();
-        int availableSeats = (int) allSeats.stream()
-                .filter(s -> s.getIsAvailable() && !unavailableSeatIds.contains(s.getId()))
-                .count();
-
-        return new SeatAvailabilityResponse(showId, totalSeats, availableSeats, pricing, rows);
+        return new SeatAvailabilityResponse(showId, layout.size(), availableSeats, pricing, pricingVersion, rows);
     }
 }
@@ -0,0 +1,9 @@
+package com.razkart.cinehub.show.dto;
+
+/**
+ * Initial seat map sent to a seat-map subscriber, tagged with the version it reflects.
+ */
+public record SeatAvailabilitySnapshot(
+        long version,
+        SeatAvailabilityResponse availability
+) {}
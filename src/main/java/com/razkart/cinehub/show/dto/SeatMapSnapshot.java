@@ -0,0 +1,9 @@
+package com.razkart.cinehub.show.dto;
+
+/**
+ * Pre-serialized seat map of a show, identified by its ETag.
+ */
+public record SeatMapSnapshot(
+        String etag,
+        byte[] body
+) {}
@@ -0,0 +1,21 @@
+package com.razkart.cinehub.show.dto;
+
+/**
+ * Seat counts of a show: seats held by pending bookings, seats booked, and the
+ * screen's sellable capacity.
+ */
+public record ShowOccupancy(
+        Long showId,
+        int capacity,
+        int held,
+        int booked,
+        boolean fastFilling
+) {
+    public int available() {
+        return Math.max(capacity - held - booked, 0);
+    }
+
+    public boolean isSoldOut() {
+        return capacity > 0 && available() == 0;
+    }
+}
@@ -23,7 +23,9 @@ public record ShowResponse(
         LocalTime endTime,
         ShowStatus status,
         boolean isBookable,
-        List<PricingResponse> pricing
+        List<PricingResponse> pricing,
+        Integer availableSeats,
+        Boolean fastFilling
 ) {
     public record PricingResponse(
             SeatType seatType,
@@ -35,6 +37,13 @@ public record ShowResponse(
     }
 
     public static ShowResponse from(Show show) {
+        return from(show, null);
+    }
+
+    /**
+     * Include seat counts when the show's occupancy is known.
+     */
+    public static ShowResponse from(Show show, ShowOccupancy occupancy) {
         List<PricingResponse> pricingList = show.getPricing().stream()
                 .map(PricingResponse::from)
                 .toList();
@@ -52,7 +61,9 @@ public record ShowResponse(
                 show.getEndTime(),
                 show.getStatus(),
                 show.isBookable(),
-                pricingList
+                pricingList,
+                occupancy != null ? occupancy.available() : null,
+                occupancy != null ? occupancy.fastFilling() : null
         );
     }
 }
@@ -45,6 +45,10 @@ public class Show extends BaseEntity {
     @Builder.Default
     private ShowStatus status = ShowStatus.SCHEDULED;
 
+    @Column(name = "pricing_revision", nullable = false)
+    @Builder.Default
+    private Integer pricingRevision = 0;
+
     @OneToMany(mappedBy = "show", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ShowPricing> pricing = new ArrayList<>();
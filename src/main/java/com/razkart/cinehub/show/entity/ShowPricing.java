@@ -19,7 +19,8 @@ import java.math.BigDecimal;
 public class ShowPricing {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "show_pricing_seq")
+    @SequenceGenerator(name = "show_pricing_seq", sequenceName = "show_pricing_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,7 @@ package com.razkart.cinehub.show.repository;
 import com.razkart.cinehub.show.entity.Show;
 import com.razkart.cinehub.show.entity.ShowStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ShowRepository extends JpaRepository<Show, Long> {
@@ -22,14 +24,14 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
             @Param("status") ShowStatus status);
 
     @Query("SELECT s FROM Show s WHERE s.event.id = :eventId AND s.screen.venue.city.id = :cityId " +
-           "AND s.showDate = :date AND s.status = 'SCHEDULED' ORDER BY s.startTime")
+           "AND s.showDate = :date AND s.status IN ('SCHEDULED', 'HOUSEFULL') ORDER BY s.startTime")
     List<Show> findByEventAndCityAndDate(
             @Param("eventId") Long eventId,
             @Param("cityId") Long cityId,
             @Param("date") LocalDate date);
 
     @Query("SELECT s FROM Show s WHERE s.screen.venue.id = :venueId AND s.showDate = :date " +
-           "AND s.status = 'SCHEDULED' ORDER BY s.startTime")
+           "AND s.status IN ('SCHEDULED', 'HOUSEFULL') ORDER BY s.startTime")
     List<Show> findByVenueAndDate(@Param("venueId") Long venueId, @Param("date") LocalDate date);
 
     @Query("SELECT s FROM Show s WHERE s.screen.id = :screenId AND s.showDate = :date " +
@@ -37,16 +39,37 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
     List<Show> findByScreenAndDate(@Param("screenId") Long screenId, @Param("date") LocalDate date);
 
     @Query("SELECT s FROM Show s WHERE s.event.id = :eventId AND s.showDate >= :fromDate " +
-           "AND s.status = 'SCHEDULED' ORDER BY s.showDate, s.startTime")
+           "AND s.status IN ('SCHEDULED', 'HOUSEFULL') ORDER BY s.showDate, s.startTime")
     List<Show> findUpcomingByEvent(@Param("eventId") Long eventId, @Param("fromDate") LocalDate fromDate);
 
     @Query("SELECT DISTINCT s.showDate FROM Show s WHERE s.event.id = :eventId " +
            "AND s.screen.venue.city.id = :cityId AND s.showDate >= :fromDate " +
-           "AND s.status = 'SCHEDULED' ORDER BY s.showDate")
+           "AND s.status IN ('SCHEDULED', 'HOUSEFULL') ORDER BY s.showDate")
     List<LocalDate> findAvailableDatesByEventAndCity(
             @Param("eventId") Long eventId,
             @Param("cityId") Long cityId,
             @Param("fromDate") LocalDate fromDate);
 
+    /**
+     * Show with everything a booking needs, loaded in one query so it can be used outside a transaction.
+     */
+    @Query("SELECT s FROM Show s JOIN FETCH s.event JOIN FETCH s.screen sc JOIN FETCH sc.venue " +
+           "LEFT JOIN FETCH s.pricing WHERE s.id = :showId")
+    Optional<Show> findByIdForBooking(@Param("showId") Long showId);
+
+    @Query("SELECT s.screen.id FROM Show s WHERE s.id = :showId")
+    Optional<Long> findScreenIdById(@Param("showId") Long showId);
+
+    @Modifying
+    @Query("UPDATE Show s SET s.pricingRevision = s.pricingRevision + 1 WHERE s.id = :showId")
+    int incrementPricingRevision(@Param("showId") Long showId);
+
+    @Modifying
+    @Query("UPDATE Show s SET s.status = :status WHERE s.id = :showId AND s.status = :currentStatus")
+    int updateStatus(
+            @Param("showId") Long showId,
+            @Param("currentStatus") ShowStatus currentStatus,
+            @Param("status") ShowStatus status);
+
     boolean existsByScreenIdAndShowDateAndStartTime(Long screenId, LocalDate showDate, LocalTime startTime);
 }
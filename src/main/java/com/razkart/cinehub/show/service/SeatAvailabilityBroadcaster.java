@@ -0,0 +1,143 @@
+package com.razkart.cinehub.show.service;
+
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange;
+import com.razkart.cinehub.show.dto.SeatAvailabilityDelta;
+import com.razkart.cinehub.show.dto.SeatAvailabilitySnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Fans seat availability changes out to Server-Sent Event subscribers.
+ * <p>
+ * Each committed {@link SeatAvailabilityChange} bumps the show's seat-map version in Redis
+ * and is published once on a Redis channel; every node forwards it to its own subscribers
+ * of that show. Subscribers get a snapshot tagged with a version and then deltas with
+ * increasing versions. A client that sees a version gap should reconnect for a fresh snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatAvailabilityBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "cinehub:seat:events";
+    private static final String VERSION_PREFIX = "cinehub:seat:version:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<Long, Set<SseEmitter>> emittersByShow = new ConcurrentHashMap<>();
+
+    @Value("${cinehub.seat-stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @PostConstruct
+    public void subscribeToChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatAvailabilityChange(SeatAvailabilityChange change) {
+        if (change.seatIds().isEmpty()) {
+            return;
+        }
+        Long version = redisTemplate.opsForValue().increment(VERSION_PREFIX + change.showId());
+        redisTemplate.convertAndSend(CHANNEL, encode(change, version));
+    }
+
+    /**
+     * Advance a show's seat-map version without a delta, e.g. after its screen or prices change.
+     * Stream subscribers see the gap on the next delta and reconnect for a fresh snapshot.
+     */
+    public void advanceVersion(Long showId) {
+        redisTemplate.opsForValue().increment(VERSION_PREFIX + showId);
+    }
+
+    /**
+     * Current seat-map version of a show; 0 if nothing has changed yet.
+     */
+    public long currentVersion(Long showId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + showId);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * Open a stream for a show, starting with the given snapshot.
+     */
+    public SseEmitter subscribe(Long showId, SeatAvailabilitySnapshot snapshot) {
+        SseEmitter emitter = new SseEmitter(Duration.ofMinutes(timeoutMinutes).toMillis());
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").id(String.valueOf(snapshot.version())).data(snapshot));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        emittersByShow.compute(showId, (id, emitters) -> {
+            Set<SseEmitter> subscribers = emitters != null ? emitters : new CopyOnWriteArraySet<>();
+            subscribers.add(emitter);
+            return subscribers;
+        });
+        Runnable unsubscribe = () -> removeEmitter(showId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SeatAvailabilityDelta delta = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        Set<SseEmitter> emitters = emittersByShow.get(delta.showId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("delta").id(String.valueOf(delta.version())).data(delta));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping seat stream subscriber for show {}: {}", delta.showId(), e.getMessage());
+                removeEmitter(delta.showId(), emitter);
+            }
+        }
+    }
+
+    private void removeEmitter(Long showId, SseEmitter emitter) {
+        emittersByShow.computeIfPresent(showId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    // Format: showId|version|type|seatId,seatId,...
+    private String encode(SeatAvailabilityChange change, Long version) {
+        StringJoiner seatIds = new StringJoiner(",");
+        change.seatIds().forEach(seatId -> seatIds.add(seatId.toString()));
+        return change.showId() + "|" + version + "|" + change.type() + "|" + seatIds;
+    }
+
+    private SeatAvailabilityDelta decode(String message) {
+        String[] parts = message.split("\\|", 4);
+        SeatAvailabilityChange.ChangeType type = SeatAvailabilityChange.ChangeType.valueOf(parts[2]);
+        List<Long> seatIds = Arrays.stream(parts[3].split(",")).map(Long::valueOf).toList();
+        SeatAvailabilityChange change = new SeatAvailabilityChange(Long.valueOf(parts[0]), type, seatIds);
+        return new SeatAvailabilityDelta(change.showId(), Long.parseLong(parts[1]), type, seatIds, !change.makesUnavailable());
+    }
+}
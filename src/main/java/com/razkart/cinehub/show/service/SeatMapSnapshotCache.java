@@ -0,0 +1,70 @@
+package com.razkart.cinehub.show.service;
+
+import com.razkart.cinehub.booking.service.BookingService;
+import com.razkart.cinehub.common.dto.ApiResponse;
+import com.razkart.cinehub.show.dto.SeatMapSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node cache of serialized seat maps keyed by the show's seat-map version.
+ * Both the full JSON seat map and the compact bitset form are cached, each with its own ETag.
+ * <p>
+ * The ETag combines the version with a time bucket of {@code max-age-seconds}, so seat
+ * holds that lapse by TTL alone (without a version bump) are reflected within one bucket.
+ * Both parts are the same on every node, so ETags stay valid behind a load balancer.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatMapSnapshotCache {
+
+    private final BookingService bookingService;
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+    private final JsonMapper jsonMapper;
+
+    private final Map<Long, SeatMapSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, SeatMapSnapshot> bitsetSnapshots = new ConcurrentHashMap<>();
+
+    @Value("${cinehub.seat-map.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    public String currentETag(Long showId, boolean bitset) {
+        return buildETag(showId, seatAvailabilityBroadcaster.currentVersion(showId), bitset);
+    }
+
+    public SeatMapSnapshot get(Long showId, boolean bitset) {
+        // The ETag is read first, so a snapshot may be newer than its tag but never older
+        String etag = currentETag(showId, bitset);
+        Map<Long, SeatMapSnapshot> cache = bitset ? bitsetSnapshots : snapshots;
+        SeatMapSnapshot cached = cache.get(showId);
+        if (cached != null && cached.etag().equals(etag)) {
+            return cached;
+        }
+
+        Object availability = bitset
+                ? bookingService.getAvailableSeatsBitset(showId)
+                : bookingService.getAvailableSeats(showId);
+        SeatMapSnapshot snapshot = new SeatMapSnapshot(etag, jsonMapper.writeValueAsBytes(ApiResponse.success(availability)));
+        cache.put(showId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Drop the snapshots on every node by advancing the show's version.
+     */
+    public void invalidate(Long showId) {
+        seatAvailabilityBroadcaster.advanceVersion(showId);
+        snapshots.remove(showId);
+        bitsetSnapshots.remove(showId);
+    }
+
+    private String buildETag(Long showId, long version, boolean bitset) {
+        long bucket = System.currentTimeMillis() / 1000 / maxAgeSeconds;
+        return "W/\"" + showId + "-" + version + "-" + bucket + (bitset ? "-bitset" : "") + "\"";
+    }
+}
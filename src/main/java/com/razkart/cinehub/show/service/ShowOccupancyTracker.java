@@ -0,0 +1,270 @@
+package com.razkart.cinehub.show.service;
+
+import com.razkart.cinehub.booking.entity.BookingStatus;
+import com.razkart.cinehub.booking.repository.BookedSeatRepository;
+import com.razkart.cinehub.booking.service.DynamicPricing;
+import com.razkart.cinehub.booking.service.SeatLayoutResolver;
+import com.razkart.cinehub.common.job.ClusterJobCoordinator;
+import com.razkart.cinehub.common.job.JobLease;
+import com.razkart.cinehub.show.dto.SeatAvailabilityChange;
+import com.razkart.cinehub.show.dto.ShowOccupancy;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.show.entity.ShowStatus;
+import com.razkart.cinehub.show.repository.ShowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Per-show seat counters (capacity, held, booked) kept in a Redis hash.
+ * <p>
+ * Counters move with every committed {@link SeatAvailabilityChange}, so "seats left" and
+ * "fast filling" are a hash read instead of a COUNT over booked seats. A show is flipped
+ * to {@link ShowStatus#HOUSEFULL} when nothing is left and back to SCHEDULED when seats
+ * free up. Counters of shows that are still running are periodically reset from the DB
+ * by one node of the cluster, which also corrects holds that lapsed without an event.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShowOccupancyTracker {
+
+    private static final String OCCUPANCY_PREFIX = "cinehub:show:occupancy:";
+    private static final String ACTIVE_SHOWS_KEY = "cinehub:show:occupancy:active";
+    private static final String RECONCILE_JOB = "show-occupancy-reconcile";
+    private static final Duration RECONCILE_LEASE = Duration.ofMinutes(2);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShowRepository showRepository;
+    private final BookedSeatRepository bookedSeatRepository;
+    private final SeatLayoutResolver seatLayoutResolver;
+    private final ClusterJobCoordinator clusterJobCoordinator;
+    private final DynamicPricing dynamicPricing;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${cinehub.show.fast-filling-percent:80}")
+    private int fastFillingPercent;
+
+    // KEYS[1] = occupancy hash; ARGV[1] = held delta, ARGV[2] = booked delta.
+    // Returns nil when the counters are not seeded yet, else {capacity, held, booked}.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> APPLY_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local held = redis.call('HINCRBY', KEYS[1], 'held', ARGV[1])
+            if held < 0 then
+                held = 0
+                redis.call('HSET', KEYS[1], 'held', 0)
+            end
+            local booked = redis.call('HINCRBY', KEYS[1], 'booked', ARGV[2])
+            if booked < 0 then
+                booked = 0
+                redis.call('HSET', KEYS[1], 'booked', 0)
+            end
+            return {tonumber(redis.call('HGET', KEYS[1], 'capacity')), held, booked}
+            """, List.class);
+
+    // Runs after the booking's commit while its connection is still held, so it stays off the database
+    // unless the counters need seeding or the show flips in or out of HOUSEFULL
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatAvailabilityChange(SeatAvailabilityChange change) {
+        int seats = change.seatIds().size();
+        if (seats == 0) {
+            return;
+        }
+
+        long heldDelta = switch (change.type()) {
+            case HELD -> seats;
+            case BOOKED, RELEASED -> -seats;
+            case CANCELLED -> 0;
+        };
+        long bookedDelta = switch (change.type()) {
+            case BOOKED -> seats;
+            case CANCELLED -> -seats;
+            case HELD, RELEASED -> 0;
+        };
+
+        List<?> counts = redisTemplate.execute(APPLY_SCRIPT, List.of(buildOccupancyKey(change.showId())),
+                String.valueOf(heldDelta), String.valueOf(bookedDelta));
+        ShowOccupancy occupancy = counts == null
+                ? seed(List.of(change.showId())).get(change.showId())
+                : toOccupancy(change.showId(), counts.get(0), counts.get(1), counts.get(2));
+        dynamicPricing.reprice(occupancy);
+
+        // Freshly seeded counters have no previous state, so their status is always checked
+        if (counts != null) {
+            boolean wasSoldOut = toOccupancy(change.showId(), occupancy.capacity(),
+                    occupancy.held() - (int) heldDelta, occupancy.booked() - (int) bookedDelta).isSoldOut();
+            if (wasSoldOut == occupancy.isSoldOut()) {
+                return;
+            }
+        }
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        newTransaction.executeWithoutResult(status -> {
+            if (occupancy.isSoldOut()) {
+                updateStatus(change.showId(), ShowStatus.SCHEDULED, ShowStatus.HOUSEFULL);
+            } else {
+                updateStatus(change.showId(), ShowStatus.HOUSEFULL, ShowStatus.SCHEDULED);
+            }
+        });
+    }
+
+    /**
+     * Occupancy of several shows in one Redis round trip; shows without counters are seeded
+     * from the DB with a single grouped query.
+     */
+    public Map<Long, ShowOccupancy> getOccupancy(Collection<Long> showIds) {
+        if (showIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = List.copyOf(showIds);
+        List<Object> rows = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long showId : ids) {
+                connection.hashCommands().hMGet(bytes(buildOccupancyKey(showId)), bytes("capacity"), bytes("held"), bytes("booked"));
+            }
+            return null;
+        });
+
+        Map<Long, ShowOccupancy> occupancies = new HashMap<>();
+        List<Long> unseeded = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<?> counts = (List<?>) rows.get(i);
+            if (counts == null || counts.get(0) == null) {
+                unseeded.add(ids.get(i));
+            } else {
+                occupancies.put(ids.get(i), toOccupancy(ids.get(i), counts.get(0), counts.get(1), counts.get(2)));
+            }
+        }
+        if (!unseeded.isEmpty()) {
+            occupancies.putAll(seed(unseeded));
+        }
+        return occupancies;
+    }
+
+    @Scheduled(fixedDelayString = "${cinehub.show.occupancy-reconcile-ms:60000}")
+    @Transactional
+    public void reconcile() {
+        clusterJobCoordinator.runExclusive(RECONCILE_JOB, RECONCILE_LEASE, this::reconcileRunningShows);
+    }
+
+    private void reconcileRunningShows(JobLease lease) {
+        Set<String> activeShowIds = redisTemplate.opsForSet().members(ACTIVE_SHOWS_KEY);
+        if (activeShowIds == null || activeShowIds.isEmpty()) {
+            return;
+        }
+
+        List<Show> shows = showRepository.findAllById(activeShowIds.stream().map(Long::valueOf).toList());
+        List<Long> running = new ArrayList<>();
+        for (Show show : shows) {
+            if (show.getShowDate().isBefore(LocalDate.now()) || show.isCancelled()) {
+                forget(show.getId());
+            } else {
+                running.add(show.getId());
+            }
+        }
+        if (running.isEmpty()) {
+            return;
+        }
+
+        // Seeding rewrites counts from the DB and status flips are conditional, so a stale leader
+        // repeating them is harmless; the lease check only saves the wasted work
+        Map<Long, ShowOccupancy> occupancies = seed(running);
+        if (!clusterJobCoordinator.isHeld(lease)) {
+            log.warn("Lost the {} lease; leaving show statuses to the new holder", RECONCILE_JOB);
+            return;
+        }
+        for (Show show : shows) {
+            ShowOccupancy occupancy = occupancies.get(show.getId());
+            if (occupancy == null) {
+                continue;
+            }
+            // Also moves shows into the slow-show window, which no seat change would
+            dynamicPricing.reprice(occupancy);
+            if (occupancy.isSoldOut() && show.getStatus() == ShowStatus.SCHEDULED) {
+                updateStatus(show.getId(), ShowStatus.SCHEDULED, ShowStatus.HOUSEFULL);
+            } else if (!occupancy.isSoldOut() && show.isHousefull()) {
+                updateStatus(show.getId(), ShowStatus.HOUSEFULL, ShowStatus.SCHEDULED);
+            }
+        }
+        log.debug("Reconciled occupancy of {} shows", running.size());
+    }
+
+    public void forget(Long showId) {
+        dynamicPricing.forget(showId);
+        redisTemplate.delete(buildOccupancyKey(showId));
+        redisTemplate.opsForSet().remove(ACTIVE_SHOWS_KEY, showId.toString());
+    }
+
+    // Counts from the DB overwrite whatever is in Redis
+    private Map<Long, ShowOccupancy> seed(List<Long> showIds) {
+        Map<Long, int[]> counts = new HashMap<>();
+        showIds.forEach(showId -> counts.put(showId, new int[2]));
+        for (Object[] row : bookedSeatRepository.countSeatsByShowAndStatus(showIds)) {
+            int[] showCounts = counts.get((Long) row[0]);
+            showCounts[row[1] == BookingStatus.PENDING ? 0 : 1] = ((Long) row[2]).intValue();
+        }
+
+        Map<Long, ShowOccupancy> occupancies = new HashMap<>();
+        for (Long showId : showIds) {
+            int[] showCounts = counts.get(showId);
+            int capacity = seatLayoutResolver.forShow(showId).usableSeatCount();
+            occupancies.put(showId, toOccupancy(showId, capacity, showCounts[0], showCounts[1]));
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ShowOccupancy occupancy : occupancies.values()) {
+                connection.hashCommands().hMSet(bytes(buildOccupancyKey(occupancy.showId())), Map.of(
+                        bytes("capacity"), bytes(String.valueOf(occupancy.capacity())),
+                        bytes("held"), bytes(String.valueOf(occupancy.held())),
+                        bytes("booked"), bytes(String.valueOf(occupancy.booked()))));
+                connection.setCommands().sAdd(bytes(ACTIVE_SHOWS_KEY), bytes(occupancy.showId().toString()));
+            }
+            return null;
+        });
+        return occupancies;
+    }
+
+    private void updateStatus(Long showId, ShowStatus currentStatus, ShowStatus status) {
+        if (showRepository.updateStatus(showId, currentStatus, status) > 0) {
+            log.info("Show {} is now {}", showId, status);
+        }
+    }
+
+    private ShowOccupancy toOccupancy(Long showId, Object capacity, Object held, Object booked) {
+        return toOccupancy(showId, toInt(capacity), toInt(held), toInt(booked));
+    }
+
+    private ShowOccupancy toOccupancy(Long showId, int capacity, int held, int booked) {
+        boolean fastFilling = capacity > 0 && (held + booked) * 100L >= (long) capacity * fastFillingPercent;
+        return new ShowOccupancy(showId, capacity, held, booked, fastFilling);
+    }
+
+    private int toInt(Object value) {
+        return value == null ? 0 : Integer.parseInt(value.toString());
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String buildOccupancyKey(Long showId) {
+        return OCCUPANCY_PREFIX + showId;
+    }
+}
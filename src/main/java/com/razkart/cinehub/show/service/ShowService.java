@@ -1,8 +1,10 @@
 package com.razkart.cinehub.show.service;
 
 import com.razkart.cinehub.show.dto.SeatAvailabilityResponse;
+import com.razkart.cinehub.show.dto.SeatMapSnapshot;
 import com.razkart.cinehub.show.dto.ShowRequest;
 import com.razkart.cinehub.show.dto.ShowResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -28,4 +30,13 @@ public interface ShowService {
     List<LocalDate> getAvailableDates(Long eventId, Long cityId);
 
     SeatAvailabilityResponse getSeatAvailability(Long showId);
+
+    /**
+     * ETag of the show's current seat map, cheap enough to check on every poll.
+     */
+    String getSeatMapETag(Long showId, boolean bitset);
+
+    SeatMapSnapshot getSeatMapSnapshot(Long showId, boolean bitset);
+
+    SseEmitter streamSeatAvailability(Long showId);
 }
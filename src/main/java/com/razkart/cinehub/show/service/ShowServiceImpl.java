@@ -1,10 +1,15 @@
 package com.razkart.cinehub.show.service;
 
+import com.razkart.cinehub.booking.service.BookingService;
+import com.razkart.cinehub.booking.service.PricingEngine;
 import com.razkart.cinehub.common.exception.BusinessException;
 import com.razkart.cinehub.common.exception.ResourceNotFoundException;
 import com.razkart.cinehub.event.entity.Event;
 import com.razkart.cinehub.event.repository.EventRepository;
 import com.razkart.cinehub.show.dto.SeatAvailabilityResponse;
+import com.razkart.cinehub.show.dto.SeatAvailabilitySnapshot;
+import com.razkart.cinehub.show.dto.SeatMapSnapshot;
+import com.razkart.cinehub.show.dto.ShowOccupancy;
 import com.razkart.cinehub.show.dto.ShowRequest;
 import com.razkart.cinehub.show.dto.ShowResponse;
 import com.razkart.cinehub.show.entity.Show;
@@ -12,18 +17,17 @@ import com.razkart.cinehub.show.entity.ShowPricing;
 import com.razkart.cinehub.show.entity.ShowStatus;
 import com.razkart.cinehub.show.repository.ShowRepository;
 import com.razkart.cinehub.venue.entity.Screen;
-import com.razkart.cinehub.venue.entity.Seat;
 import com.razkart.cinehub.venue.entity.SeatType;
 import com.razkart.cinehub.venue.repository.ScreenRepository;
-import com.razkart.cinehub.venue.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.*;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +38,11 @@ public class ShowServiceImpl implements ShowService {
     private final ShowRepository showRepository;
     private final EventRepository eventRepository;
     private final ScreenRepository screenRepository;
-    private final SeatRepository seatRepository;
+    private final BookingService bookingService;
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+    private final SeatMapSnapshotCache seatMapSnapshotCache;
+    private final ShowOccupancyTracker showOccupancyTracker;
+    private final PricingEngine pricingEngine;
 
     @Override
     @Transactional
@@ -103,8 +111,13 @@ public class ShowServiceImpl implements ShowService {
                     .build();
             show.addPricing(pricing);
         }
-
         Show updatedShow = showRepository.save(show);
+        // Pricing rows live in their own table; the revision tells cached price tables on every node.
+        // It is incremented in SQL so concurrent edits of one show each get their own revision.
+        showRepository.incrementPricingRevision(id);
+        pricingEngine.evict(id);
+        seatMapSnapshotCache.invalidate(id);
+        showOccupancyTracker.forget(id);
         log.info("Show updated: {}", id);
 
         return ShowResponse.from(updatedShow);
@@ -114,7 +127,7 @@ public class ShowServiceImpl implements ShowService {
     public ShowResponse getShowById(Long id) {
         Show show = showRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Show not found: " + id));
-        return ShowResponse.from(show);
+        return ShowResponse.from(show, showOccupancyTracker.getOccupancy(List.of(id)).get(id));
     }
 
     @Override
@@ -125,6 +138,9 @@ public class ShowServiceImpl implements ShowService {
             throw new ResourceNotFoundException("Show not found: " + id);
         }
         showRepository.deleteById(id);
+        pricingEngine.evict(id);
+        seatMapSnapshotCache.invalidate(id);
+        showOccupancyTracker.forget(id);
         log.info("Show deleted: {}", id);
     }
 
@@ -141,28 +157,23 @@ public class ShowServiceImpl implements ShowService {
 
         show.setStatus(ShowStatus.CANCELLED);
         showRepository.save(show);
+        showOccupancyTracker.forget(id);
         log.info("Show cancelled: {}", id);
     }
 
     @Override
     public List<ShowResponse> getShowsByEventAndCity(Long eventId, Long cityId, LocalDate date) {
-        return showRepository.findByEventAndCityAndDate(eventId, cityId, date).stream()
-                .map(ShowResponse::from)
-                .toList();
+        return withOccupancy(showRepository.findByEventAndCityAndDate(eventId, cityId, date));
     }
 
     @Override
     public List<ShowResponse> getShowsByVenue(Long venueId, LocalDate date) {
-        return showRepository.findByVenueAndDate(venueId, date).stream()
-                .map(ShowResponse::from)
-                .toList();
+        return withOccupancy(showRepository.findByVenueAndDate(venueId, date));
     }
 
     @Override
     public List<ShowResponse> getUpcomingShowsByEvent(Long eventId) {
-        return showRepository.findUpcomingByEvent(eventId, LocalDate.now()).stream()
-                .map(ShowResponse::from)
-                .toList();
+        return withOccupancy(showRepository.findUpcomingByEvent(eventId, LocalDate.now()));
     }
 
     @Override
@@ -172,20 +183,31 @@ public class ShowServiceImpl implements ShowService {
 
     @Override
     public SeatAvailabilityResponse getSeatAvailability(Long showId) {
-        Show show = showRepository.findById(showId)
-                .orElseThrow(() -> new ResourceNotFoundException("Show not found: " + showId));
+        return bookingService.getAvailableSeats(showId);
+    }
 
-        List<Seat> allSeats = seatRepository.findByScreenId(show.getScreen().getId());
+    @Override
+    public String getSeatMapETag(Long showId, boolean bitset) {
+        return seatMapSnapshotCache.currentETag(showId, bitset);
+    }
 
-        // Get pricing map
-        Map<String, BigDecimal> pricing = new HashMap<>();
-        for (ShowPricing sp : show.getPricing()) {
-            pricing.put(sp.getSeatType().name(), sp.getPrice());
-        }
+    @Override
+    public SeatMapSnapshot getSeatMapSnapshot(Long showId, boolean bitset) {
+        return seatMapSnapshotCache.get(showId, bitset);
+    }
 
-        // For now, return empty unavailable set - will be populated by booking service
-        Set<Long> unavailableSeatIds = new HashSet<>();
+    @Override
+    public SseEmitter streamSeatAvailability(Long showId) {
+        // Read the version first so the snapshot is never newer than the version it is tagged with
+        long version = seatAvailabilityBroadcaster.currentVersion(showId);
+        SeatAvailabilityResponse availability = bookingService.getAvailableSeats(showId);
+        return seatAvailabilityBroadcaster.subscribe(showId, new SeatAvailabilitySnapshot(version, availability));
+    }
 
-        return SeatAvailabilityResponse.from(showId, allSeats, unavailableSeatIds, pricing);
+    private List<ShowResponse> withOccupancy(List<Show> shows) {
+        Map<Long, ShowOccupancy> occupancies = showOccupancyTracker.getOccupancy(shows.stream().map(Show::getId).toList());
+        return shows.stream()
+                .map(show -> ShowResponse.from(show, occupancies.get(show.getId())))
+                .toList();
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -128,9 +129,18 @@ public class VenueController {
     @GetMapping("/screens/{screenId}/seats")
     @Operation(summary = "Get seat layout for a screen")
     public ResponseEntity<ApiResponse<SeatLayoutResponse>> getSeatLayout(
-            @PathVariable Long screenId) {
+            @PathVariable Long screenId,
+            WebRequest webRequest) {
+
+        // Layouts rarely change; clients revalidate with the layout version as ETag
+        String etag = "\"" + venueService.getSeatLayoutVersion(screenId) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         SeatLayoutResponse layout = venueService.getSeatLayout(screenId);
-        return ResponseEntity.ok(ApiResponse.success(layout));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(layout));
     }
 }
@@ -1,45 +1,53 @@
 package com.razkart.cinehub.venue.dto;
 
-import com.razkart.cinehub.venue.entity.Seat;
 import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.service.ScreenLayout;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * Static seat layout of a screen. {@code layoutVersion} changes whenever any seat changes,
+ * and each seat's {@code ordinal} is its bit in a seat availability bitset.
+ */
 public record SeatLayoutResponse(
         Long screenId,
         String screenName,
+        String layoutVersion,
         Integer totalSeats,
         Map<String, List<SeatInfo>> rows
 ) {
     public record SeatInfo(
             Long id,
+            Integer ordinal,
             String seatLabel,
             SeatType seatType,
             Integer xPosition,
             Integer yPosition,
             Boolean isAvailable
     ) {
-        public static SeatInfo from(Seat seat) {
+        public static SeatInfo from(ScreenLayout layout, int ordinal) {
             return new SeatInfo(
-                    seat.getId(),
-                    seat.getSeatLabel(),
-                    seat.getSeatType(),
-                    seat.getXPosition(),
-                    seat.getYPosition(),
-                    seat.getIsAvailable()
+                    layout.seatIdAt(ordinal),
+                    ordinal,
+                    layout.seatLabelAt(ordinal),
+                    layout.seatTypeAt(ordinal),
+                    layout.xPositionAt(ordinal),
+                    layout.yPositionAt(ordinal),
+                    layout.isUsable(ordinal)
             );
         }
     }
 
-    public static SeatLayoutResponse from(Long screenId, String screenName, List<Seat> seats) {
-        Map<String, List<SeatInfo>> rows = seats.stream()
-                .collect(Collectors.groupingBy(
-                        Seat::getRowName,
-                        Collectors.mapping(SeatInfo::from, Collectors.toList())
-                ));
+    public static SeatLayoutResponse from(String screenName, ScreenLayout layout) {
+        Map<String, List<SeatInfo>> rows = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+            rows.computeIfAbsent(layout.rowNameAt(ordinal), row -> new ArrayList<>())
+                    .add(SeatInfo.from(layout, ordinal));
+        }
 
-        return new SeatLayoutResponse(screenId, screenName, seats.size(), rows);
+        return new SeatLayoutResponse(layout.getScreenId(), screenName, layout.getVersion(), layout.size(), rows);
     }
 }
@@ -0,0 +1,17 @@
+package com.razkart.cinehub.venue.repository;
+
+import com.razkart.cinehub.venue.entity.SeatType;
+
+/**
+ * Flat projection of a seat, read without hydrating {@code Seat} entities.
+ */
+public record SeatLayoutRow(
+        Long id,
+        String rowName,
+        Integer seatNumber,
+        String seatLabel,
+        SeatType seatType,
+        Integer xPosition,
+        Integer yPosition,
+        Boolean isAvailable
+) {}
@@ -14,6 +14,13 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     List<Seat> findByScreenIdOrderByRowNameAscSeatNumberAsc(Long screenId);
 
+    @Query("""
+            SELECT new com.razkart.cinehub.venue.repository.SeatLayoutRow(
+                s.id, s.rowName, s.seatNumber, s.seatLabel, s.seatType, s.xPosition, s.yPosition, s.isAvailable)
+            FROM Seat s WHERE s.screen.id = :screenId ORDER BY s.rowName, s.seatNumber
+            """)
+    List<SeatLayoutRow> findLayoutRowsByScreenId(@Param("screenId") Long screenId);
+
     List<Seat> findByScreenId(Long screenId);
 
     List<Seat> findByScreenIdAndSeatType(Long screenId, SeatType seatType);
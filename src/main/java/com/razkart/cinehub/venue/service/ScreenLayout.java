@@ -0,0 +1,206 @@
+package com.razkart.cinehub.venue.service;
+
+import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.repository.SeatLayoutRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable seat layout of a screen with a dense, stable seat ordinal per seat.
+ * Ordinals follow row name then seat number, so they stay stable while the layout is unchanged.
+ * The layout version is a checksum of every seat's details and changes whenever the layout does.
+ * <p>
+ * Seat attributes are held in parallel primitive arrays indexed by ordinal, so reading a
+ * layout allocates nothing per seat.
+ */
+public final class ScreenLayout {
+
+    private static final SeatType[] SEAT_TYPES = SeatType.values();
+
+    private final Long screenId;
+    private final String version;
+    private final long[] seatIds;
+    private final String[] rowNames;
+    private final int[] rowOrdinals;
+    private final int[] seatNumbers;
+    private final String[] seatLabels;
+    private final byte[] seatTypeOrdinals;
+    private final int[] xPositions;
+    private final int[] yPositions;
+    private final BitSet usableSeats;
+    private final BitSet[] usableSeatsByType;
+    private final BitSet blockStarts;
+    private final double centreX;
+    private final double centreY;
+    private final long[] sortedSeatIds;
+    private final int[] ordinalsBySortedId;
+
+    private ScreenLayout(Long screenId, List<SeatLayoutRow> orderedSeats) {
+        int size = orderedSeats.size();
+        this.screenId = screenId;
+        this.seatIds = new long[size];
+        this.rowOrdinals = new int[size];
+        this.seatNumbers = new int[size];
+        this.seatLabels = new String[size];
+        this.seatTypeOrdinals = new byte[size];
+        this.xPositions = new int[size];
+        this.yPositions = new int[size];
+        this.usableSeats = new BitSet(size);
+        this.usableSeatsByType = new BitSet[SEAT_TYPES.length];
+        Arrays.setAll(usableSeatsByType, type -> new BitSet(size));
+        this.blockStarts = new BitSet(size);
+
+        CRC32 checksum = new CRC32();
+        List<String> rows = new ArrayList<>();
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            SeatLayoutRow seat = orderedSeats.get(ordinal);
+            if (rows.isEmpty() || !rows.getLast().equals(seat.rowName())) {
+                rows.add(seat.rowName());
+                blockStarts.set(ordinal);
+            } else if (seat.seatNumber() != seatNumbers[ordinal - 1] + 1) {
+                blockStarts.set(ordinal);
+            }
+            seatIds[ordinal] = seat.id();
+            rowOrdinals[ordinal] = rows.size() - 1;
+            seatNumbers[ordinal] = seat.seatNumber();
+            seatLabels[ordinal] = seat.seatLabel();
+            seatTypeOrdinals[ordinal] = (byte) seat.seatType().ordinal();
+            xPositions[ordinal] = seat.xPosition();
+            yPositions[ordinal] = seat.yPosition();
+            if (Boolean.TRUE.equals(seat.isAvailable())) {
+                usableSeats.set(ordinal);
+                usableSeatsByType[seat.seatType().ordinal()].set(ordinal);
+            }
+            minX = Math.min(minX, seat.xPosition());
+            maxX = Math.max(maxX, seat.xPosition());
+            minY = Math.min(minY, seat.yPosition());
+            maxY = Math.max(maxY, seat.yPosition());
+
+            String fingerprint = seat.id() + "|" + seat.seatLabel() + "|" + seat.seatType() + "|"
+                    + seat.xPosition() + "|" + seat.yPosition() + "|" + seat.isAvailable() + "\n";
+            checksum.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        }
+        this.rowNames = rows.toArray(String[]::new);
+        this.version = Long.toHexString(checksum.getValue());
+        this.centreX = size == 0 ? 0 : (minX + maxX) / 2.0;
+        this.centreY = size == 0 ? 0 : (minY + maxY) / 2.0;
+
+        this.sortedSeatIds = seatIds.clone();
+        Arrays.sort(this.sortedSeatIds);
+        this.ordinalsBySortedId = new int[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            ordinalsBySortedId[Arrays.binarySearch(sortedSeatIds, seatIds[ordinal])] = ordinal;
+        }
+    }
+
+    /**
+     * Build a layout from seats ordered by row name and seat number.
+     */
+    public static ScreenLayout of(Long screenId, List<SeatLayoutRow> orderedSeats) {
+        return new ScreenLayout(screenId, orderedSeats);
+    }
+
+    public Long getScreenId() {
+        return screenId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    /**
+     * Number of seats that can be sold, i.e. not blocked off in the screen.
+     */
+    public int usableSeatCount() {
+        return usableSeats.cardinality();
+    }
+
+    public int rowCount() {
+        return rowNames.length;
+    }
+
+    public String rowName(int rowOrdinal) {
+        return rowNames[rowOrdinal];
+    }
+
+    public long seatIdAt(int ordinal) {
+        return seatIds[ordinal];
+    }
+
+    public int rowOrdinalAt(int ordinal) {
+        return rowOrdinals[ordinal];
+    }
+
+    public String rowNameAt(int ordinal) {
+        return rowNames[rowOrdinals[ordinal]];
+    }
+
+    public int seatNumberAt(int ordinal) {
+        return seatNumbers[ordinal];
+    }
+
+    public String seatLabelAt(int ordinal) {
+        return seatLabels[ordinal];
+    }
+
+    public SeatType seatTypeAt(int ordinal) {
+        return SEAT_TYPES[seatTypeOrdinals[ordinal]];
+    }
+
+    public int xPositionAt(int ordinal) {
+        return xPositions[ordinal];
+    }
+
+    public int yPositionAt(int ordinal) {
+        return yPositions[ordinal];
+    }
+
+    /**
+     * Whether the seat at an ordinal can be sold at all (it is not blocked off in the screen).
+     */
+    public boolean isUsable(int ordinal) {
+        return usableSeats.get(ordinal);
+    }
+
+    /**
+     * Copy of the usable seats of a type as a bitset over ordinals; all usable seats if the type is null.
+     */
+    public BitSet usableSeats(SeatType seatType) {
+        return (BitSet) (seatType == null ? usableSeats : usableSeatsByType[seatType.ordinal()]).clone();
+    }
+
+    /**
+     * Next ordinal after {@code ordinal} that starts a row or follows a gap in seat numbers,
+     * or {@link #size()} if there is none. Seats between two block starts sit side by side.
+     */
+    public int nextBlockStart(int ordinal) {
+        int next = blockStarts.nextSetBit(ordinal + 1);
+        return next < 0 ? seatIds.length : next;
+    }
+
+    public double centreX() {
+        return centreX;
+    }
+
+    public double centreY() {
+        return centreY;
+    }
+
+    /**
+     * Ordinal of a seat in this layout, or -1 if the seat does not belong to the screen.
+     */
+    public int ordinalOf(long seatId) {
+        int index = Arrays.binarySearch(sortedSeatIds, seatId);
+        return index < 0 ? -1 : ordinalsBySortedId[index];
+    }
+}
@@ -0,0 +1,37 @@
+package com.razkart.cinehub.venue.service;
+
+import com.razkart.cinehub.venue.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process cache of screen layouts, loaded once per screen.
+ * <p>
+ * A screen's seats are treated as immutable: nothing in the application edits them, and a cached
+ * layout is kept until restart. Seat ordinals, and so the bitmap and in-memory seat lock backends
+ * that store holds by ordinal, rely on this. Seats changed outside the application (e.g. by a
+ * migration) need a restart of every node, with no holds outstanding for the screen's shows.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScreenLayoutCache {
+
+    private final SeatRepository seatRepository;
+
+    private final Map<Long, ScreenLayout> layouts = new ConcurrentHashMap<>();
+
+    public ScreenLayout get(Long screenId) {
+        return layouts.computeIfAbsent(screenId, this::load);
+    }
+
+    private ScreenLayout load(Long screenId) {
+        ScreenLayout layout = ScreenLayout.of(screenId, seatRepository.findLayoutRowsByScreenId(screenId));
+        log.debug("Loaded seat layout for screen {} with {} seats", screenId, layout.size());
+        return layout;
+    }
+}
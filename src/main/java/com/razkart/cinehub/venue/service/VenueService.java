@@ -35,4 +35,6 @@ public interface VenueService {
 
     // Seat layout
     SeatLayoutResponse getSeatLayout(Long screenId);
+
+    String getSeatLayoutVersion(Long screenId);
 }
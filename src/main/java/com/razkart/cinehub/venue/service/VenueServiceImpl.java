@@ -23,7 +23,7 @@ public class VenueServiceImpl implements VenueService {
     private final CityRepository cityRepository;
     private final VenueRepository venueRepository;
     private final ScreenRepository screenRepository;
-    private final SeatRepository seatRepository;
+    private final ScreenLayoutCache screenLayoutCache;
 
     @Override
     public List<CityResponse> getActiveCities() {
@@ -154,7 +154,14 @@ public class VenueServiceImpl implements VenueService {
         Screen screen = screenRepository.findById(screenId)
                 .orElseThrow(() -> new ResourceNotFoundException("Screen not found: " + screenId));
 
-        List<Seat> seats = seatRepository.findByScreenIdOrderByRowNameAscSeatNumberAsc(screenId);
-        return SeatLayoutResponse.from(screenId, screen.getName(), seats);
+        return SeatLayoutResponse.from(screen.getName(), screenLayoutCache.get(screenId));
+    }
+
+    @Override
+    public String getSeatLayoutVersion(Long screenId) {
+        if (!screenRepository.existsById(screenId)) {
+            throw new ResourceNotFoundException("Screen not found: " + screenId);
+        }
+        return screenLayoutCache.get(screenId).getVersion();
     }
 }
@@ -0,0 +1,70 @@
+package com.razkart.cinehub.waitingroom.controller;
+
+import com.razkart.cinehub.common.dto.ApiResponse;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.waitingroom.dto.QueueTicketResponse;
+import com.razkart.cinehub.waitingroom.dto.WaitingRoomResponse;
+import com.razkart.cinehub.waitingroom.service.WaitingRoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for show waiting rooms: joining and polling the queue, and opening rooms for on-sales.
+ */
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+@Tag(name = "Waiting Room", description = "Admission control for high-demand shows")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/shows/{showId}/queue")
+    @Operation(summary = "Join a show's waiting room", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<QueueTicketResponse>> joinQueue(
+            @PathVariable Long showId,
+            @AuthenticationPrincipal User currentUser) {
+
+        QueueTicketResponse ticket = waitingRoomService.join(showId, currentUser);
+        return ResponseEntity.ok(ApiResponse.success(ticket));
+    }
+
+    @GetMapping("/shows/{showId}/queue")
+    @Operation(summary = "Poll queue position and estimated wait", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<QueueTicketResponse>> getQueueStatus(
+            @PathVariable Long showId,
+            @RequestHeader(value = WaitingRoomService.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @AuthenticationPrincipal User currentUser) {
+
+        QueueTicketResponse ticket = waitingRoomService.getStatus(showId, queueToken, currentUser);
+        return ResponseEntity.ok(ApiResponse.success(ticket));
+    }
+
+    @GetMapping("/admin/waiting-rooms/{showId}")
+    @Operation(summary = "Get a show's waiting room", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> getWaitingRoom(@PathVariable Long showId) {
+        return ResponseEntity.ok(ApiResponse.success(waitingRoomService.getWaitingRoom(showId)));
+    }
+
+    @PutMapping("/admin/waiting-rooms/{showId}")
+    @Operation(summary = "Open a show's waiting room or change its admission rate", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<WaitingRoomResponse>> openWaitingRoom(
+            @PathVariable Long showId,
+            @RequestParam(defaultValue = "0") int admitPerSecond) {
+
+        WaitingRoomResponse room = waitingRoomService.open(showId, admitPerSecond);
+        return ResponseEntity.ok(ApiResponse.success(room, "Waiting room opened"));
+    }
+
+    @DeleteMapping("/admin/waiting-rooms/{showId}")
+    @Operation(summary = "Close a show's waiting room", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Void>> closeWaitingRoom(@PathVariable Long showId) {
+        waitingRoomService.close(showId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Waiting room closed"));
+    }
+}
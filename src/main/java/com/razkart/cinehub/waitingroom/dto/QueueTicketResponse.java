@@ -0,0 +1,19 @@
+package com.razkart.cinehub.waitingroom.dto;
+
+/**
+ * A caller's place in a show's waiting room. {@code token} is sent back in the
+ * {@code X-Queue-Token} header to poll and, once admitted, to select seats and book.
+ * When the show has no open waiting room the caller is admitted with no position or token.
+ */
+public record QueueTicketResponse(
+        Long showId,
+        Long position,
+        Long admittedThrough,
+        boolean admitted,
+        long estimatedWaitSeconds,
+        String token
+) {
+    public static QueueTicketResponse noQueue(Long showId) {
+        return new QueueTicketResponse(showId, null, null, true, 0, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.razkart.cinehub.waitingroom.dto;
+
+/**
+ * Admin view of a show's waiting room.
+ */
+public record WaitingRoomResponse(
+        Long showId,
+        boolean open,
+        int admitPerSecond,
+        long issued,
+        long admittedThrough
+) {}
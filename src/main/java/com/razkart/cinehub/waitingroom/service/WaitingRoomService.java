@@ -0,0 +1,33 @@
+package com.razkart.cinehub.waitingroom.service;
+
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.waitingroom.dto.QueueTicketResponse;
+import com.razkart.cinehub.waitingroom.dto.WaitingRoomResponse;
+
+/**
+ * Per-show admission control for on-sale spikes.
+ */
+public interface WaitingRoomService {
+
+    String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    /**
+     * Take the next place in the show's queue; the token is only valid for this user.
+     */
+    QueueTicketResponse join(Long showId, User user);
+
+    QueueTicketResponse getStatus(Long showId, String token, User user);
+
+    /**
+     * Fail with {@link com.razkart.cinehub.common.exception.AdmissionRequiredException} if the show
+     * has an open waiting room and the token was not issued to this user or has not been admitted yet.
+     * Answered from local state; {@code user} is null for anonymous callers, who are never admitted.
+     */
+    void checkAdmission(Long showId, String token, User user);
+
+    WaitingRoomResponse open(Long showId, int admitPerSecond);
+
+    void close(Long showId);
+
+    WaitingRoomResponse getWaitingRoom(Long showId);
+}
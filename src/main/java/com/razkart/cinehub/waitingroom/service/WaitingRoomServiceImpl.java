@@ -0,0 +1,249 @@
+package com.razkart.cinehub.waitingroom.service;
+
+import com.razkart.cinehub.common.exception.AdmissionRequiredException;
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.common.exception.ResourceNotFoundException;
+import com.razkart.cinehub.common.job.ClusterJobCoordinator;
+import com.razkart.cinehub.common.job.JobLease;
+import com.razkart.cinehub.show.repository.ShowRepository;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.waitingroom.dto.QueueTicketResponse;
+import com.razkart.cinehub.waitingroom.dto.WaitingRoomResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis-backed waiting rooms.
+ * <p>
+ * An open room is a field of {@code cinehub:waiting-room:rooms} holding its admission rate. Joining
+ * takes the next position from the show's {@code issued} counter and returns a token signed for that
+ * position and the joining user, so it cannot be handed to other accounts; every tick one node (holding a cluster lease) moves the show's {@code admitted} pointer forward
+ * by the rate. Every node copies the open rooms and pointers into memory on the same tick, so polling
+ * and admission checks on the hot endpoints never touch Redis or the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomServiceImpl implements WaitingRoomService {
+
+    private static final String ROOMS_KEY = "cinehub:waiting-room:rooms";
+    private static final String ISSUED_PREFIX = "cinehub:waiting-room:issued:";
+    private static final String ADMITTED_PREFIX = "cinehub:waiting-room:admitted:";
+    private static final String ADMISSION_JOB = "waiting-room-admission";
+
+    // KEYS[1] = issued counter, KEYS[2] = admitted pointer, KEYS[3] = admission job lease;
+    // ARGV[1] = positions to admit this tick, ARGV[2] = lease value. Returns -1, writing nothing, once
+    // the lease has moved to another node, so a stale leader cannot admit an extra tick's worth.
+    // The pointer may run at most one tick ahead of the queue, so idle rooms admit newcomers at once
+    // without banking capacity for a later burst.
+    private static final RedisScript<Long> ADVANCE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[2] then
+                return -1
+            end
+            local step = tonumber(ARGV[1])
+            local issued = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local admitted = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local target = math.min(admitted + step, issued + step)
+            if target > admitted then
+                redis.call('SET', KEYS[2], target)
+            end
+            return target
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ShowRepository showRepository;
+    private final ClusterJobCoordinator jobCoordinator;
+
+    @Value("${cinehub.waiting-room.secret:${cinehub.jwt.secret}}") private String secret;
+    @Value("${cinehub.waiting-room.tick-ms:1000}") private long tickMillis;
+    @Value("${cinehub.waiting-room.token-ttl-minutes:60}") private long tokenTtlMinutes;
+    @Value("${cinehub.waiting-room.default-admit-per-second:50}") private int defaultAdmitPerSecond;
+
+    private volatile Map<Long, Room> rooms = Map.of();
+
+    private record Room(int admitPerSecond, long admittedThrough) {
+    }
+
+    private record QueueToken(Long showId, Long userId, long position, long expiresAtSeconds) {
+    }
+
+    @Override
+    public QueueTicketResponse join(Long showId, User user) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return QueueTicketResponse.noQueue(showId);
+        }
+        Long position = redisTemplate.opsForValue().increment(ISSUED_PREFIX + showId);
+        long expiresAt = System.currentTimeMillis() / 1000 + Duration.ofMinutes(tokenTtlMinutes).toSeconds();
+        return ticket(showId, room, position, sign(new QueueToken(showId, user.getId(), position, expiresAt)));
+    }
+
+    @Override
+    public QueueTicketResponse getStatus(Long showId, String token, User user) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return QueueTicketResponse.noQueue(showId);
+        }
+        QueueToken queueToken = verify(showId, token, user);
+        if (queueToken == null) {
+            throw new BusinessException("Invalid or expired queue token; join the queue again");
+        }
+        return ticket(showId, room, queueToken.position(), token);
+    }
+
+    @Override
+    public void checkAdmission(Long showId, String token, User user) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return;
+        }
+        QueueToken queueToken = verify(showId, token, user);
+        if (queueToken == null) {
+            throw new AdmissionRequiredException("This show has a waiting room; join the queue to continue",
+                    Math.max(1, Duration.ofMillis(tickMillis).toSeconds()));
+        }
+        if (queueToken.position() > room.admittedThrough()) {
+            long wait = estimatedWaitSeconds(room, queueToken.position());
+            throw new AdmissionRequiredException("You are number " + (queueToken.position() - room.admittedThrough())
+                    + " in the queue", Math.max(1, wait));
+        }
+    }
+
+    @Override
+    public WaitingRoomResponse open(Long showId, int admitPerSecond) {
+        if (!showRepository.existsById(showId)) {
+            throw new ResourceNotFoundException("Show not found: " + showId);
+        }
+        int rate = admitPerSecond > 0 ? admitPerSecond : defaultAdmitPerSecond;
+        redisTemplate.opsForHash().put(ROOMS_KEY, showId.toString(), String.valueOf(rate));
+        refreshRooms();
+        log.info("Opened waiting room for show {} admitting {} per second", showId, rate);
+        return getWaitingRoom(showId);
+    }
+
+    @Override
+    public void close(Long showId) {
+        redisTemplate.opsForHash().delete(ROOMS_KEY, showId.toString());
+        redisTemplate.delete(List.of(ISSUED_PREFIX + showId, ADMITTED_PREFIX + showId));
+        refreshRooms();
+        log.info("Closed waiting room for show {}", showId);
+    }
+
+    @Override
+    public WaitingRoomResponse getWaitingRoom(Long showId) {
+        Object rate = redisTemplate.opsForHash().get(ROOMS_KEY, showId.toString());
+        List<String> counters = redisTemplate.opsForValue().multiGet(List.of(ISSUED_PREFIX + showId, ADMITTED_PREFIX + showId));
+        return new WaitingRoomResponse(showId, rate != null,
+                rate != null ? Integer.parseInt(rate.toString()) : 0,
+                parseLong(counters != null ? counters.get(0) : null),
+                parseLong(counters != null ? counters.get(1) : null));
+    }
+
+    @Scheduled(fixedDelayString = "${cinehub.waiting-room.tick-ms:1000}")
+    public void tick() {
+        // The lease is renewed rather than released, so exactly one node advances the pointers each tick
+        if (!rooms.isEmpty()) {
+            jobCoordinator.tryAcquire(ADMISSION_JOB, Duration.ofMillis(tickMillis * 3)).ifPresent(this::admit);
+        }
+        refreshRooms();
+    }
+
+    private void admit(JobLease lease) {
+        for (Map.Entry<Long, Room> entry : rooms.entrySet()) {
+            long step = Math.max(1, (long) Math.ceil(entry.getValue().admitPerSecond() * tickMillis / 1000.0));
+            Long admitted = redisTemplate.execute(ADVANCE_SCRIPT,
+                    List.of(ISSUED_PREFIX + entry.getKey(), ADMITTED_PREFIX + entry.getKey(), jobCoordinator.leaseKey(lease)),
+                    String.valueOf(step), lease.value());
+            if (admitted != null && admitted < 0) {
+                log.warn("Lost the {} lease; leaving admission to the new holder", ADMISSION_JOB);
+                return;
+            }
+        }
+    }
+
+    private void refreshRooms() {
+        Map<Object, Object> openRooms = redisTemplate.opsForHash().entries(ROOMS_KEY);
+        if (openRooms.isEmpty()) {
+            rooms = Map.of();
+            return;
+        }
+
+        List<Long> showIds = openRooms.keySet().stream().map(showId -> Long.valueOf(showId.toString())).toList();
+        List<String> admitted = redisTemplate.opsForValue().multiGet(showIds.stream().map(showId -> ADMITTED_PREFIX + showId).toList());
+        Map<Long, Room> refreshed = new HashMap<>(showIds.size());
+        for (int i = 0; i < showIds.size(); i++) {
+            int rate = Integer.parseInt(openRooms.get(showIds.get(i).toString()).toString());
+            refreshed.put(showIds.get(i), new Room(rate, parseLong(admitted != null ? admitted.get(i) : null)));
+        }
+        rooms = refreshed;
+    }
+
+    private QueueTicketResponse ticket(Long showId, Room room, long position, String token) {
+        boolean admitted = position <= room.admittedThrough();
+        return new QueueTicketResponse(showId, position, room.admittedThrough(), admitted,
+                admitted ? 0 : estimatedWaitSeconds(room, position), token);
+    }
+
+    private long estimatedWaitSeconds(Room room, long position) {
+        return (long) Math.ceil((double) (position - room.admittedThrough()) / room.admitPerSecond());
+    }
+
+    // Token format: showId.userId.position.expiresAtEpochSeconds.signature
+    private String sign(QueueToken token) {
+        String payload = token.showId() + "." + token.userId() + "." + token.position() + "." + token.expiresAtSeconds();
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(payload));
+    }
+
+    private QueueToken verify(Long showId, String token, User user) {
+        if (token == null || token.isBlank() || user == null) {
+            return null;
+        }
+        int signatureStart = token.lastIndexOf('.');
+        String[] parts = token.split("\\.");
+        if (parts.length != 5 || signatureStart < 0) {
+            return null;
+        }
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(parts[4]);
+            if (!MessageDigest.isEqual(signature, hmac(token.substring(0, signatureStart)))) {
+                return null;
+            }
+            QueueToken queueToken = new QueueToken(Long.valueOf(parts[0]), Long.valueOf(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+            if (!queueToken.showId().equals(showId) || !queueToken.userId().equals(user.getId())
+                    || queueToken.expiresAtSeconds() < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return queueToken;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] hmac(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private long parseLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,20 @@
+-- =====================================================
+-- V10: Sequence tables for batched inserts
+-- booked_seats, tickets, seats and show_pricing take ids from pooled
+-- sequences (allocation 50) instead of AUTO_INCREMENT, so Hibernate can
+-- batch their inserts. MySQL has no sequences; Hibernate emulates each
+-- one with a single-row table. A stored value v hands out ids v-49..v,
+-- so seed each table 50 past the current maximum id.
+-- =====================================================
+
+CREATE TABLE booked_seats_seq (next_val BIGINT NOT NULL);
+INSERT INTO booked_seats_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM booked_seats;
+
+CREATE TABLE tickets_seq (next_val BIGINT NOT NULL);
+INSERT INTO tickets_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tickets;
+
+CREATE TABLE seats_seq (next_val BIGINT NOT NULL);
+INSERT INTO seats_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM seats;
+
+CREATE TABLE show_pricing_seq (next_val BIGINT NOT NULL);
+INSERT INTO show_pricing_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM show_pricing;
@@ -0,0 +1,8 @@
+-- =====================================================
+-- V11: Index for the one-booking-per-show guard
+-- Serves the (user_id, show_id, status) existence check on every
+-- initiate; it also covers user_id lookups, so idx_bookings_user goes.
+-- =====================================================
+
+CREATE INDEX idx_bookings_user_show_status ON bookings (user_id, show_id, status);
+DROP INDEX idx_bookings_user ON bookings;
@@ -0,0 +1,7 @@
+-- =====================================================
+-- V12: Index for keyset-paginated booking history
+-- Pages walk (user_id, created_at) newest first; InnoDB appends the
+-- primary key, which breaks created_at ties the same way the cursor does.
+-- =====================================================
+
+CREATE INDEX idx_bookings_user_created ON bookings (user_id, created_at);
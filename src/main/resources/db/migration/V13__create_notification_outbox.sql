@@ -0,0 +1,14 @@
+-- =====================================================
+-- V13: Notification outbox
+-- Rows are written with the booking change they announce and
+-- deleted by the relay once RabbitMQ confirms them.
+-- =====================================================
+
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exchange VARCHAR(100) NOT NULL,
+    routing_key VARCHAR(100) NOT NULL,
+    type_id VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
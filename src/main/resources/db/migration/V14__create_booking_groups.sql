@@ -0,0 +1,33 @@
+-- =====================================================
+-- V14: Booking groups
+-- Bulk (corporate / school) orders: one booking per show,
+-- held, paid for and confirmed together.
+-- =====================================================
+
+CREATE TABLE booking_groups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    group_number VARCHAR(20) NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL,
+    organization_name VARCHAR(200),
+    status ENUM('PENDING', 'CONFIRMED', 'CANCELLED', 'EXPIRED', 'FAILED') NOT NULL DEFAULT 'PENDING',
+    final_amount DECIMAL(10, 2) NOT NULL,
+    expires_at DATETIME,
+    booked_at DATETIME,
+    cancelled_at DATETIME,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version INT NOT NULL DEFAULT 0,
+
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    INDEX idx_booking_groups_user (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+ALTER TABLE bookings
+    ADD COLUMN group_id BIGINT NULL AFTER show_id,
+    ADD CONSTRAINT fk_bookings_group FOREIGN KEY (group_id) REFERENCES booking_groups(id);
+
+-- A payment is for either a single booking or a whole group
+ALTER TABLE payments
+    MODIFY booking_id BIGINT NULL,
+    ADD COLUMN booking_group_id BIGINT NULL AFTER booking_id,
+    ADD CONSTRAINT fk_payments_booking_group FOREIGN KEY (booking_group_id) REFERENCES booking_groups(id);
@@ -0,0 +1,7 @@
+-- =====================================================
+-- V15: Carts
+-- A customer's multi-show checkout is stored as a booking group
+-- =====================================================
+
+ALTER TABLE booking_groups
+    ADD COLUMN type ENUM('GROUP', 'CART') NOT NULL DEFAULT 'GROUP' AFTER group_number;
@@ -0,0 +1,6 @@
+-- =====================================================
+-- V16: Index for expiring booking groups
+-- The reaper marks lapsed pending groups and carts EXPIRED
+-- =====================================================
+
+CREATE INDEX idx_booking_groups_status_expires ON booking_groups (status, expires_at);
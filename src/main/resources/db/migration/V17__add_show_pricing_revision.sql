@@ -0,0 +1,7 @@
+-- =====================================================
+-- V17: Show pricing revision
+-- Bumped on every pricing write; names the revision cached price tables were compiled from
+-- =====================================================
+
+ALTER TABLE shows
+    ADD COLUMN pricing_revision INT NOT NULL DEFAULT 0 AFTER status;
@@ -0,0 +1,6 @@
+-- =====================================================
+-- V9: Index for the expired booking reaper
+-- Keyset scan over pending bookings by (expires_at, id)
+-- =====================================================
+
+CREATE INDEX idx_bookings_status_expires ON bookings (status, expires_at, id);
@@ -0,0 +1,135 @@
+package com.razkart.cinehub.booking.entity;
+
+import com.razkart.cinehub.event.entity.Cast;
+import com.razkart.cinehub.event.entity.Event;
+import com.razkart.cinehub.payment.entity.Payment;
+import com.razkart.cinehub.payment.entity.Refund;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.show.entity.ShowPricing;
+import com.razkart.cinehub.user.entity.User;
+import com.razkart.cinehub.venue.entity.City;
+import com.razkart.cinehub.venue.entity.Screen;
+import com.razkart.cinehub.venue.entity.Seat;
+import com.razkart.cinehub.venue.entity.Venue;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the INSERT statements a booking prepares with the production batching settings, on H2.
+ * A JDBC batch is prepared once, so each batched table counts as one statement.
+ * Foreign keys are not generated, so the booking can point at users, shows and seats by reference only.
+ */
+class BookingInsertBatchingTest {
+
+    private static final int SEATS = 10;
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+    private static final AtomicLong numbers = new AtomicLong();
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactory() {
+        Configuration configuration = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:booking-batching;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.hbm2ddl.default_constraint_mode", "NO_CONSTRAINT")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.jdbc.batch_versioned_data", "true")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .setStatementInspector(sql -> {
+                    statements.add(sql);
+                    return sql;
+                });
+        List.of(User.class, City.class, Venue.class, Screen.class, Seat.class, Event.class, Cast.class,
+                Show.class, ShowPricing.class, Booking.class, BookedSeat.class, Ticket.class,
+                BookingGroup.class, Payment.class, Refund.class).forEach(configuration::addAnnotatedClass);
+        sessionFactory = configuration.buildSessionFactory();
+
+        // Take the first pooled id ranges so the measured bookings do not include sequence calls
+        Long bookingId = initiateBooking();
+        confirmBooking(bookingId);
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void initiatingBookingBatchesSeatInserts() {
+        statements.clear();
+
+        initiateBooking();
+
+        // booking + one booked_seats batch; was 1 + SEATS with identity ids
+        assertEquals(2, count("insert"));
+    }
+
+    @Test
+    void confirmingBookingBatchesTicketInserts() {
+        Long bookingId = initiateBooking();
+        statements.clear();
+
+        confirmBooking(bookingId);
+
+        // one tickets batch; was SEATS with identity ids
+        assertEquals(1, count("insert"));
+        assertEquals(1, count("update"));
+    }
+
+    private static Long initiateBooking() {
+        return sessionFactory.fromTransaction(session -> {
+            Show show = session.getReference(Show.class, 1L);
+            Booking booking = Booking.builder()
+                    .bookingNumber("CH" + numbers.incrementAndGet())
+                    .user(session.getReference(User.class, 1L)).show(show)
+                    .totalAmount(BigDecimal.TEN).finalAmount(BigDecimal.TEN)
+                    .expiresAt(LocalDateTime.now().plusMinutes(10))
+                    .build();
+            booking.setCreatedAt(LocalDateTime.now());
+            booking.setUpdatedAt(LocalDateTime.now());
+            for (long seatId = 1; seatId <= SEATS; seatId++) {
+                booking.addSeat(BookedSeat.builder()
+                        .show(show).seat(session.getReference(Seat.class, seatId))
+                        .seatLabel("A" + seatId).price(BigDecimal.ONE)
+                        .build());
+            }
+            session.persist(booking);
+            return booking.getId();
+        });
+    }
+
+    private static void confirmBooking(Long bookingId) {
+        sessionFactory.inTransaction(session -> {
+            Booking booking = session.find(Booking.class, bookingId);
+            booking.confirm();
+            addTickets(booking);
+        });
+    }
+
+    private static void addTickets(Booking booking) {
+        booking.getBookedSeats().forEach(seat -> booking.getTickets().add(Ticket.builder()
+                .booking(booking).seatLabel(seat.getSeatLabel())
+                .ticketNumber("TKT" + numbers.incrementAndGet())
+                .qrCode(booking.getBookingNumber() + "|" + seat.getSeatLabel())
+                .build()));
+    }
+
+    private static long count(String statementType) {
+        return statements.stream().filter(sql -> sql.regionMatches(true, 0, statementType, 0, statementType.length())).count();
+    }
+}
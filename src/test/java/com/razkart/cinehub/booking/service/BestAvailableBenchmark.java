@@ -0,0 +1,65 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link BestAvailableSeatAllocator} on a 1000-seat screen (25 rows of 40) at several occupancies.
+ * <p>
+ * Run {@link #main} from the IDE, or {@code java -cp <test classpath> com.razkart.cinehub.booking.service.BestAvailableBenchmark}
+ * after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BestAvailableBenchmark {
+
+    @Param({"0", "50", "90"})
+    private int occupancyPercent;
+
+    @Param({"2", "6"})
+    private int seatCount;
+
+    private final BestAvailableSeatAllocator allocator = new BestAvailableSeatAllocator();
+
+    private ScreenLayout layout;
+    private List<Long> unavailableSeatIds;
+
+    @Setup
+    public void setUp() {
+        layout = BestAvailableSeatAllocatorTest.grid(25, 40, SeatType.REGULAR);
+        Random random = new Random(42);
+        unavailableSeatIds = new ArrayList<>();
+        for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+            if (random.nextInt(100) < occupancyPercent) {
+                unavailableSeatIds.add(layout.seatIdAt(ordinal));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> allocateAnyType() {
+        return allocator.allocate(layout, unavailableSeatIds, null, seatCount);
+    }
+
+    @Benchmark
+    public List<Long> allocateByType() {
+        return allocator.allocate(layout, unavailableSeatIds, SeatType.REGULAR, seatCount);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BestAvailableBenchmark.class.getSimpleName()).build()).run();
+    }
+}
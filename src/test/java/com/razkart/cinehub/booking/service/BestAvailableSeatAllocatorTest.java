@@ -0,0 +1,103 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.repository.SeatLayoutRow;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BestAvailableSeatAllocatorTest {
+
+    private final BestAvailableSeatAllocator allocator = new BestAvailableSeatAllocator();
+
+    @Test
+    void picksTheCentreOfAnEmptyScreen() {
+        ScreenLayout layout = grid(5, 10, SeatType.REGULAR);
+
+        assertEquals(List.of(305L, 306L), allocator.allocate(layout, List.of(), null, 2));
+    }
+
+    @Test
+    void doesNotSpanAnAisle() {
+        // Seat 5 is an aisle; seats 4 and 6 would be the most central block of three if it were not
+        ScreenLayout layout = ScreenLayout.of(1L, row("A", 0, SeatType.REGULAR, 1, 2, 3, 4, 6, 7, 8, 9, 10));
+
+        assertEquals(List.of(106L, 107L, 108L), allocator.allocate(layout, List.of(), null, 3));
+    }
+
+    @Test
+    void doesNotSpanBlockedOrUnavailableSeats() {
+        List<SeatLayoutRow> seats = new ArrayList<>(row("A", 0, SeatType.REGULAR, 1, 2, 3, 4));
+        seats.add(new SeatLayoutRow(105L, "A", 5, "A5", SeatType.REGULAR, 5, 0, false));
+        seats.addAll(row("A", 0, SeatType.REGULAR, 6, 7, 8, 9, 10));
+        ScreenLayout layout = ScreenLayout.of(1L, seats);
+
+        assertEquals(List.of(106L, 107L, 108L), allocator.allocate(layout, List.of(), null, 3));
+        assertEquals(List.of(102L, 103L, 104L), allocator.allocate(layout, List.of(107L), null, 3));
+    }
+
+    @Test
+    void returnsNothingWhenNoRunIsLongEnough() {
+        ScreenLayout layout = grid(2, 6, SeatType.REGULAR);
+
+        // The last seat of row A and the first of row B are adjacent ordinals but not adjacent seats
+        assertTrue(allocator.allocate(layout, List.of(), null, 7).isEmpty());
+        assertTrue(allocator.allocate(layout, List.of(103L, 203L), null, 4).isEmpty());
+    }
+
+    @Test
+    void onlyPicksSeatsOfTheRequestedType() {
+        List<SeatLayoutRow> seats = new ArrayList<>();
+        seats.addAll(row("A", 0, SeatType.REGULAR, 1, 2, 3, 4, 5, 6));
+        seats.addAll(row("B", 1, SeatType.REGULAR, 1, 2, 3, 4, 5, 6));
+        seats.addAll(row("C", 2, SeatType.PREMIUM, 1, 2, 3, 4, 5, 6));
+        ScreenLayout layout = ScreenLayout.of(1L, seats);
+
+        assertEquals(List.of(203L, 204L), allocator.allocate(layout, List.of(), null, 2));
+        assertEquals(List.of(303L, 304L), allocator.allocate(layout, List.of(), SeatType.PREMIUM, 2));
+        assertTrue(allocator.allocate(layout, List.of(), SeatType.RECLINER, 1).isEmpty());
+    }
+
+    @Test
+    void tiesGoToTheFirstBlockInLayoutOrder() {
+        ScreenLayout aisle = ScreenLayout.of(1L, row("A", 0, SeatType.REGULAR, 1, 2, 3, 4, 6, 7, 8, 9));
+        assertEquals(List.of(101L, 102L, 103L, 104L), allocator.allocate(aisle, List.of(), null, 4));
+
+        ScreenLayout twoRows = grid(2, 4, SeatType.REGULAR);
+        assertEquals(List.of(101L, 102L, 103L, 104L), allocator.allocate(twoRows, List.of(), null, 4));
+        assertEquals(List.of(201L, 202L, 203L, 204L), allocator.allocate(twoRows, Set.of(102L), null, 4));
+    }
+
+    // Seat ids are row number * 100 + seat number; x is the seat number and y the row index
+    static ScreenLayout grid(int rows, int seatsPerRow, SeatType seatType) {
+        List<SeatLayoutRow> seats = new ArrayList<>(rows * seatsPerRow);
+        int[] seatNumbers = new int[seatsPerRow];
+        for (int seat = 0; seat < seatsPerRow; seat++) {
+            seatNumbers[seat] = seat + 1;
+        }
+        for (int row = 0; row < rows; row++) {
+            seats.addAll(row(rowName(row), row, seatType, seatNumbers));
+        }
+        return ScreenLayout.of(1L, seats);
+    }
+
+    private static List<SeatLayoutRow> row(String rowName, int rowIndex, SeatType seatType, int... seatNumbers) {
+        List<SeatLayoutRow> seats = new ArrayList<>(seatNumbers.length);
+        for (int seatNumber : seatNumbers) {
+            seats.add(new SeatLayoutRow((rowIndex + 1) * 100L + seatNumber, rowName, seatNumber, rowName + seatNumber,
+                    seatType, seatNumber, rowIndex, true));
+        }
+        return seats;
+    }
+
+    // A..Z, then AA, AB, ... so that row names sort in row order
+    private static String rowName(int row) {
+        return row < 26 ? String.valueOf((char) ('A' + row)) : "Z" + (char) ('A' + row - 26);
+    }
+}
@@ -0,0 +1,100 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.venue.entity.SeatType;
+import com.razkart.cinehub.venue.service.ScreenLayout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the in-memory backend against the contract {@link SeatLockServiceImpl} implements in Lua:
+ * all-or-nothing locks, extensions only by the holding user, and release-by-user leaving other
+ * users' seats alone.
+ */
+class InMemorySeatLockServiceTest {
+
+    private static final Long SHOW_ID = 1L;
+    private static final Long ALICE = 7L;
+    private static final Long BOB = 8L;
+
+    private final ScreenLayout layout = BestAvailableSeatAllocatorTest.grid(2, 4, SeatType.REGULAR);
+    private final InMemorySeatLockService seatLockService = new InMemorySeatLockService(new SeatLayoutResolver(null, null) {
+        @Override
+        public ScreenLayout forShow(Long showId) {
+            return layout;
+        }
+    });
+
+    @BeforeEach
+    void start() {
+        seatLockService.start();
+    }
+
+    @AfterEach
+    void stop() {
+        seatLockService.stop();
+    }
+
+    @Test
+    void lockIsAllOrNothing() {
+        assertTrue(seatLockService.lockSeats(SHOW_ID, List.of(101L, 102L), ALICE, 10).isLocked());
+
+        SeatLockResult result = seatLockService.lockSeats(SHOW_ID, List.of(102L, 103L), BOB, 10);
+        assertFalse(result.isLocked());
+        assertEquals(List.of(102L), result.conflictingSeatIds());
+        assertTrue(seatLockService.isSeatAvailable(SHOW_ID, 103L));
+        assertEquals(Set.of(101L, 102L), seatLockService.getLockedSeats(SHOW_ID));
+
+        // A held seat conflicts even for the user holding it, as the Lua EXISTS check does
+        assertFalse(seatLockService.lockSeats(SHOW_ID, List.of(101L), ALICE, 10).isLocked());
+    }
+
+    @Test
+    void onlyTheHoldingUserCanExtend() {
+        seatLockService.lockSeats(SHOW_ID, List.of(101L, 102L), ALICE, 10);
+
+        assertFalse(seatLockService.extendSeats(SHOW_ID, List.of(101L), BOB, Duration.ofMinutes(20)));
+        assertTrue(seatLockService.extendSeats(SHOW_ID, List.of(101L, 102L), ALICE, Duration.ofMinutes(20)));
+        // One seat no longer held fails the whole extension and leaves the others held
+        assertFalse(seatLockService.extendSeats(SHOW_ID, List.of(101L, 103L), ALICE, Duration.ofMinutes(20)));
+        assertEquals(Set.of(101L, 102L), seatLockService.getLockedSeats(SHOW_ID));
+        assertFalse(seatLockService.extendSeats(2L, List.of(101L), ALICE, Duration.ofMinutes(20)));
+    }
+
+    @Test
+    void releaseByUserLeavesOtherUsersSeatsHeld() {
+        seatLockService.lockSeats(SHOW_ID, List.of(101L, 102L), ALICE, 10);
+        seatLockService.lockSeats(SHOW_ID, List.of(201L), BOB, 10);
+
+        seatLockService.releaseSeatsByUser(SHOW_ID, ALICE);
+
+        assertEquals(Set.of(201L), seatLockService.getLockedSeats(SHOW_ID));
+        assertTrue(seatLockService.lockSeats(SHOW_ID, List.of(101L, 102L), BOB, 10).isLocked());
+    }
+
+    @Test
+    void showIsDroppedOnceItsLastHoldHasExpired() throws InterruptedException {
+        assertTrue(seatLockService.lockSeats(SHOW_ID, List.of(101L), ALICE, 0).isLocked());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (seatLockService.isTracked(SHOW_ID) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(seatLockService.isTracked(SHOW_ID));
+        assertTrue(seatLockService.isSeatAvailable(SHOW_ID, 101L));
+    }
+
+    @Test
+    void rejectsUserIdsThatDoNotFitTheHold() {
+        assertThrows(BusinessException.class,
+                () -> seatLockService.lockSeats(SHOW_ID, List.of(101L), (long) Integer.MAX_VALUE + 1, 10));
+        assertFalse(seatLockService.isTracked(SHOW_ID));
+    }
+}
@@ -0,0 +1,88 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.PricingDetail;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.show.entity.ShowPricing;
+import com.razkart.cinehub.venue.entity.SeatType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the previous per-call map building and {@code BigDecimal} pricing with {@link PricingEngine}.
+ * <p>
+ * Run {@link #main} from the IDE, or {@code java -cp <test classpath> com.razkart.cinehub.booking.service.PricingBenchmark}
+ * after {@code mvn test-compile}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingBenchmark {
+
+    private static final BigDecimal CONVENIENCE_FEE_PERCENT = new BigDecimal("5.0");
+    private static final BigDecimal TAX_PERCENT = new BigDecimal("18.0");
+
+    private final SeatType[] seatTypes = {SeatType.REGULAR, SeatType.REGULAR, SeatType.PREMIUM, SeatType.RECLINER};
+
+    private Show show;
+    private PricingEngine pricingEngine;
+
+    @Setup
+    public void setUp() {
+        show = Show.builder().build();
+        show.setId(1L);
+        show.addPricing(ShowPricing.builder().seatType(SeatType.REGULAR).price(new BigDecimal("180.00")).build());
+        show.addPricing(ShowPricing.builder().seatType(SeatType.PREMIUM).price(new BigDecimal("250.00")).build());
+        show.addPricing(ShowPricing.builder().seatType(SeatType.RECLINER).price(new BigDecimal("449.50")).build());
+        pricingEngine = new PricingEngine(CONVENIENCE_FEE_PERCENT, TAX_PERCENT, new DynamicPricing(null, null, null));
+    }
+
+    @Benchmark
+    public PricingDetail bookingPricingLegacy() {
+        Map<String, BigDecimal> seatTypePrices = show.getPricing().stream()
+                .collect(Collectors.toMap(sp -> sp.getSeatType().name(), sp -> sp.getPrice()));
+        BigDecimal ticketAmount = BigDecimal.ZERO;
+        for (SeatType seatType : seatTypes) {
+            ticketAmount = ticketAmount.add(seatTypePrices.getOrDefault(seatType.name(), BigDecimal.ZERO));
+        }
+        BigDecimal convenienceFee = ticketAmount.multiply(CONVENIENCE_FEE_PERCENT).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        BigDecimal subtotal = ticketAmount.add(convenienceFee);
+        BigDecimal taxAmount = subtotal.multiply(TAX_PERCENT).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return new PricingDetail(ticketAmount, convenienceFee, taxAmount, BigDecimal.ZERO, subtotal.add(taxAmount));
+    }
+
+    @Benchmark
+    public PricingDetail bookingPricingEngine() {
+        ShowPriceTable priceTable = pricingEngine.priceTable(show);
+        long ticketPaise = 0;
+        for (SeatType seatType : seatTypes) {
+            ticketPaise += priceTable.pricePaise(seatType);
+        }
+        return pricingEngine.quote(ticketPaise);
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> availabilityPricesLegacy() {
+        return show.getPricing().stream().collect(Collectors.toMap(sp -> sp.getSeatType().name(), sp -> sp.getPrice()));
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> availabilityPricesEngine() {
+        return pricingEngine.priceTable(show).asMap();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PricingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
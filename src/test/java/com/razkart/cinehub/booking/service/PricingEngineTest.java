@@ -0,0 +1,72 @@
+package com.razkart.cinehub.booking.service;
+
+import com.razkart.cinehub.booking.dto.PricingDetail;
+import com.razkart.cinehub.common.exception.BusinessException;
+import com.razkart.cinehub.show.entity.Show;
+import com.razkart.cinehub.show.entity.ShowPricing;
+import com.razkart.cinehub.venue.entity.SeatType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingEngineTest {
+
+    private final PricingEngine pricingEngine = new PricingEngine(new BigDecimal("5.0"), new BigDecimal("18.0"), new DynamicPricing(null, null, null));
+
+    @Test
+    void quoteMatchesBigDecimalHalfUpRounding() {
+        for (long ticketPaise = 0; ticketPaise <= 500_000; ticketPaise += 7) {
+            BigDecimal ticketAmount = BigDecimal.valueOf(ticketPaise, 2);
+            BigDecimal convenienceFee = ticketAmount.multiply(new BigDecimal("5.0")).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            BigDecimal subtotal = ticketAmount.add(convenienceFee);
+            BigDecimal taxAmount = subtotal.multiply(new BigDecimal("18.0")).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+
+            PricingDetail pricing = pricingEngine.quote(ticketPaise);
+            assertEquals(0, convenienceFee.compareTo(pricing.convenienceFee()), "fee for " + ticketAmount);
+            assertEquals(0, taxAmount.compareTo(pricing.taxAmount()), "tax for " + ticketAmount);
+            assertEquals(0, subtotal.add(taxAmount).compareTo(pricing.finalAmount()), "total for " + ticketAmount);
+        }
+    }
+
+    @Test
+    void priceTableIsRecompiledWhenShowChanges() {
+        Show show = Show.builder().build();
+        show.setId(1L);
+        show.addPricing(ShowPricing.builder().seatType(SeatType.PREMIUM).price(new BigDecimal("250.50")).build());
+
+        ShowPriceTable priceTable = pricingEngine.priceTable(show);
+        assertEquals(25_050, priceTable.pricePaise(SeatType.PREMIUM));
+        assertEquals(0, priceTable.pricePaise(SeatType.REGULAR));
+        assertSame(priceTable, pricingEngine.priceTable(show));
+
+        show.getPricing().getFirst().setPrice(new BigDecimal("300.00"));
+        show.setPricingRevision(show.getPricingRevision() + 1);
+        assertEquals(30_000, pricingEngine.priceTable(show).pricePaise(SeatType.PREMIUM));
+    }
+
+    @Test
+    void multipliedPricesAreRoundedToTheRupeeAndVersioned() {
+        Show show = Show.builder().build();
+        show.setId(2L);
+        show.addPricing(ShowPricing.builder().seatType(SeatType.PREMIUM).price(new BigDecimal("249.50")).build());
+
+        ShowPriceTable base = pricingEngine.priceTable(show);
+        ShowPriceTable surged = base.withMultiplier(12_500);
+        assertEquals(31_200, surged.pricePaise(SeatType.PREMIUM));
+        assertEquals(24_950, surged.withMultiplier(DynamicPricing.BASE_MULTIPLIER).pricePaise(SeatType.PREMIUM));
+        assertNotEquals(base.version(), surged.version());
+        assertEquals(12_500, base.multiplierOf(surged.version()));
+
+        assertSame(base, pricingEngine.priceTable(show, base.version()));
+        assertThrows(BusinessException.class, () -> pricingEngine.priceTable(show, surged.version()));
+        assertThrows(BusinessException.class, () -> pricingEngine.priceTable(show, "garbage"));
+    }
+
+    @Test
+    void rejectsPercentagesFinerThanTheRateScale() {
+        assertThrows(IllegalStateException.class, () -> new PricingEngine(new BigDecimal("5.00001"), BigDecimal.TEN, null));
+    }
+}
@@ -0,0 +1,77 @@
+package com.razkart.cinehub.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @Test
+    void concurrentIdsAreUniqueAndOrderedPerThread() throws Exception {
+        IdGenerator generator = new IdGenerator(7);
+        int threads = 16;
+        int idsPerThread = 100_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    long previous = -1;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        long id = generator.nextId();
+                        assertTrue(id > previous, "IDs must increase within a thread");
+                        assertTrue(ids.add(id), "Duplicate ID " + id);
+                        previous = id;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        }
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    @Test
+    void nodesNeverShareIds() {
+        IdGenerator first = new IdGenerator(1);
+        IdGenerator second = new IdGenerator(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(ids.add(first.nextId()));
+            assertTrue(ids.add(second.nextId()));
+        }
+    }
+
+    @Test
+    void encodesFixedWidthSortableStrings() {
+        assertEquals("CH0000000000000", IdGenerator.encode("CH", 0));
+        assertEquals("TKT000000000000Z", IdGenerator.encode("TKT", 35));
+        assertEquals("order_1Y2P0IJ32E8E7", IdGenerator.encode("order_", Long.MAX_VALUE));
+
+        IdGenerator generator = new IdGenerator(0);
+        String previous = generator.next("CH");
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.next("CH");
+            assertEquals(15, next.length());
+            assertTrue(next.compareTo(previous) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeNodeIds() {
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(IdGenerator.MAX_NODE_ID + 1));
+    }
+}